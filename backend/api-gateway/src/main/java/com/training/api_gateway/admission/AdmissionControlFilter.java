@@ -0,0 +1,111 @@
+package com.training.api_gateway.admission;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.training.api_gateway.support.TargetService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import reactor.core.publisher.Mono;
+
+/**
+ * Fails fast instead of queueing: 429 when a client exceeds its token bucket for a service, 503 when the
+ * service already has {@code maxConcurrent} requests in flight from this gateway, whichever route they
+ * came through. Both carry {@code Retry-After}.
+ */
+@Component
+public class AdmissionControlFilter implements GlobalFilter, Ordered {
+
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> buckets;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public AdmissionControlFilter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        int maxClients = properties.maxClients();
+        // Bounded so a flood of distinct client addresses cannot grow the gateway's heap
+        this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxClients;
+            }
+        };
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String service = route == null ? null : TargetService.of(route);
+        AdmissionProperties.RouteLimits limits = service == null ? null : properties.limitsFor(service);
+        if (limits == null) {
+            return chain.filter(exchange);
+        }
+
+        String client = clientOf(exchange);
+        long waitNanos = properties.isExempt(client) ? 0 : bucket(service, client, limits).tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            return reject(exchange.getResponse(), service, HttpStatus.TOO_MANY_REQUESTS, "rate_limited",
+                    Duration.ofNanos(waitNanos));
+        }
+
+        AtomicInteger active = inFlight.computeIfAbsent(service, id ->
+                meterRegistry.gauge("gateway.admission.in.flight", Tags.of("service", id), new AtomicInteger()));
+        if (active.incrementAndGet() > limits.maxConcurrent()) {
+            active.decrementAndGet();
+            return reject(exchange.getResponse(), service, HttpStatus.SERVICE_UNAVAILABLE, "overloaded",
+                    properties.overloadRetryAfter());
+        }
+        return chain.filter(exchange).doFinally(signal -> active.decrementAndGet());
+    }
+
+    @Override
+    public int getOrder() {
+        // After the response cache and request coalescing, so only calls that reach a service are admitted
+        return 0;
+    }
+
+    private synchronized TokenBucket bucket(String service, String client, AdmissionProperties.RouteLimits limits) {
+        return buckets.computeIfAbsent(service + ' ' + client,
+                key -> new TokenBucket(limits.replenishRate(), limits.burstCapacity(), System.nanoTime()));
+    }
+
+    // The gateway is the edge, so the socket peer is the client; forwarded headers are not trusted
+    private static String clientOf(ServerWebExchange exchange) {
+        InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+        return remote == null || remote.getAddress() == null ? "unknown" : remote.getAddress().getHostAddress();
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response, String service, HttpStatus status, String reason,
+                              Duration retryAfter) {
+        Counter.builder("gateway.admission.rejected")
+                .description("Requests rejected by admission control")
+                .tag("service", service)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        response.setStatusCode(status);
+        // Retry-After is whole seconds; round up so a client never retries before capacity is back
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        return response.setComplete();
+    }
+}
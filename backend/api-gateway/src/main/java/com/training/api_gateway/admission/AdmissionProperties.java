@@ -0,0 +1,37 @@
+package com.training.api_gateway.admission;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Admission limits keyed by target service (see {@code TargetService}); services without an entry are
+ * not limited.
+ */
+@ConfigurationProperties("gateway.admission")
+public record AdmissionProperties(
+        @DefaultValue("10000") int maxClients,
+        @DefaultValue("1s") Duration overloadRetryAfter,
+        Set<String> exemptClients,
+        Map<String, RouteLimits> routes) {
+
+    // Exempt clients (e.g. internal jobs or load generators) skip rate limiting but still count toward maxConcurrent
+    public boolean isExempt(String client) {
+        return exemptClients != null && exemptClients.contains(client);
+    }
+
+    public RouteLimits limitsFor(String service) {
+        return routes == null ? null : routes.get(service);
+    }
+
+    /**
+     * @param replenishRate  requests per second each client may sustain to the service
+     * @param burstCapacity  requests a client may send at once after being idle
+     * @param maxConcurrent  requests the gateway keeps in flight to the service across all clients
+     */
+    public record RouteLimits(int replenishRate, int burstCapacity, int maxConcurrent) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.training.api_gateway.admission;
+
+import java.util.concurrent.TimeUnit;
+
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(int replenishRate, int burstCapacity, long nowNanos) {
+        this.capacity = burstCapacity;
+        this.tokensPerNano = replenishRate / (double) TimeUnit.SECONDS.toNanos(1);
+        this.tokens = burstCapacity;
+        this.refilledAt = nowNanos;
+    }
+
+    // Returns 0 when a token was taken, otherwise how long until the next one is available
+    synchronized long tryAcquire(long nowNanos) {
+        tokens = Math.min(capacity, tokens + (nowNanos - refilledAt) * tokensPerNano);
+        refilledAt = nowNanos;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
@@ -0,0 +1,11 @@
+package com.training.api_gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+
+// headers are the upstream response's end-to-end headers, replayed on every hit
+public record CachedResponse(String service, HttpHeaders headers, byte[] body, String etag, long expiresAtNanos) {
+
+    boolean isExpired(long nowNanos) {
+        return nowNanos - expiresAtNanos >= 0;
+    }
+}
@@ -0,0 +1,50 @@
+package com.training.api_gateway.cache;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+// Bounded LRU of GET responses. Each service carries a generation that writes bump, so a GET that was
+// already in flight when a write passed through cannot store the pre-write body afterwards.
+@Component
+public class ResponseCache {
+
+    private final Map<String, CachedResponse> entries;
+    private final Map<String, Long> generations = new HashMap<>();
+
+    public ResponseCache(ResponseCacheProperties properties) {
+        int maxEntries = properties.maxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && cached.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    public synchronized long generation(String service) {
+        return generations.getOrDefault(service, 0L);
+    }
+
+    public synchronized void put(String key, long generation, CachedResponse response) {
+        if (generation == generation(response.service())) {
+            entries.put(key, response);
+        }
+    }
+
+    public synchronized void invalidateService(String service) {
+        generations.merge(service, 1L, Long::sum);
+        entries.values().removeIf(cached -> cached.service().equals(service));
+    }
+}
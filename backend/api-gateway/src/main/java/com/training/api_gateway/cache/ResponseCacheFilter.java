@@ -0,0 +1,195 @@
+package com.training.api_gateway.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.training.api_gateway.support.ResponseReplay;
+import com.training.api_gateway.support.TargetService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves GET requests to services with a configured TTL from {@link ResponseCache}, answering
+ * {@code If-None-Match} with 304, and drops a service's entries when a write to it passes through,
+ * whichever route either came through.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final Set<HttpMethod> WRITE_METHODS = Set.of(
+            HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+    // Request headers the key already covers, or that only affect the gateway's own CORS headers
+    private static final Set<String> KEYED_VARY = Set.of(
+            "accept", "authorization", "origin", "access-control-request-method", "access-control-request-headers");
+
+    private final ResponseCache cache;
+    private final ResponseCacheProperties properties;
+
+    public ResponseCacheFilter(ResponseCache cache, ResponseCacheProperties properties) {
+        this.cache = cache;
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String service = route == null ? null : TargetService.of(route);
+        Duration ttl = service == null ? null : properties.ttlFor(service);
+        if (ttl == null) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            // Before: in-flight GETs lose their generation. After: drop anything read while the write was running.
+            cache.invalidateService(service);
+            return chain.filter(exchange).doFinally(signal -> cache.invalidateService(service));
+        }
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(request);
+        if (!hasDirective(request.getHeaders(), "no-cache")) {
+            CachedResponse cached = cache.get(key);
+            if (cached != null) {
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.OK);
+                ResponseReplay.replayHeaders(cached.headers(), response.getHeaders());
+                return respond(request, response, cached.body(), cached.etag(), "HIT");
+            }
+        }
+
+        CachingResponse response = new CachingResponse(exchange.getResponse(), request, service, key,
+                cache.generation(service), ttl);
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // Ahead of request coalescing, so cache hits never join an in-flight upstream call
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+    }
+
+    // Representation and caller are part of the key; the credential only as a digest
+    private static String cacheKey(ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        String authorization = headers.getFirst(HttpHeaders.AUTHORIZATION);
+        return request.getURI().getRawPath() + '?' + request.getURI().getRawQuery()
+                + ' ' + headers.getFirst(HttpHeaders.ACCEPT) + ' ' + (authorization == null ? "" : sha256(authorization));
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Mono<Void> respond(ServerHttpRequest request, ServerHttpResponse response, byte[] body,
+                                      String etag, String cacheStatus) {
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(etag);
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+        if (matches(request.getHeaders().getIfNoneMatch(), etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            return response.setComplete();
+        }
+        headers.setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        String opaque = stripWeak(etag);
+        return ifNoneMatch.stream().anyMatch(candidate -> candidate.equals("*") || stripWeak(candidate).equals(opaque));
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static boolean hasDirective(HttpHeaders headers, String directive) {
+        String cacheControl = headers.getCacheControl();
+        return cacheControl != null && cacheControl.contains(directive);
+    }
+
+    private static boolean variesBeyondKey(HttpHeaders headers) {
+        return headers.getVary().stream()
+                .anyMatch(name -> name.equals("*") || !KEYED_VARY.contains(name.trim().toLowerCase()));
+    }
+
+    // Same shape as Spring's ShallowEtagHeaderFilter, so tags look alike whichever layer produced them
+    private static String etagOf(byte[] body) {
+        return "\"0" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerHttpRequest request;
+        private final String service;
+        private final String key;
+        private final long generation;
+        private final Duration ttl;
+
+        CachingResponse(ServerHttpResponse delegate, ServerHttpRequest request, String service, String key,
+                        long generation, Duration ttl) {
+            super(delegate);
+            this.request = request;
+            this.service = service;
+            this.key = key;
+            this.generation = generation;
+            this.ttl = ttl;
+        }
+
+        // Streaming media types go through writeAndFlushWith and are never buffered here. A body with no
+        // Content-Length is buffered only up to max-body-size, then written through as it arrives.
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            MediaType contentType = headers.getContentType();
+            long maxBytes = properties.maxBodySize().toBytes();
+            if (getStatusCode() == null || getStatusCode().value() != HttpStatus.OK.value() || contentType == null
+                    || !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                    || hasDirective(headers, "no-store") || hasDirective(headers, "private")
+                    || headers.containsKey(HttpHeaders.SET_COOKIE) || variesBeyondKey(headers)
+                    || headers.getContentLength() > maxBytes) {
+                return super.writeWith(body);
+            }
+            return ResponseReplay.read(body, maxBytes, bytes -> {
+                String etag = headers.getETag() != null ? headers.getETag() : etagOf(bytes);
+                cache.put(key, generation, new CachedResponse(service, ResponseReplay.endToEndHeaders(headers),
+                        bytes, etag, System.nanoTime() + ttl.toNanos()));
+                return respond(request, getDelegate(), bytes, etag, "MISS");
+            }, super::writeWith);
+        }
+    }
+}
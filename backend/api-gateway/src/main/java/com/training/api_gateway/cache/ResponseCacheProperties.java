@@ -0,0 +1,24 @@
+package com.training.api_gateway.cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * GET responses are cached only for services listed under {@code ttl}, keyed by target service (see
+ * {@code TargetService}).
+ */
+@ConfigurationProperties("gateway.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("500") int maxEntries,
+        @DefaultValue("1MB") DataSize maxBodySize,
+        Map<String, Duration> ttl) {
+
+    public Duration ttlFor(String service) {
+        Duration serviceTtl = ttl == null ? null : ttl.get(service);
+        return serviceTtl == null || serviceTtl.isZero() || serviceTtl.isNegative() ? null : serviceTtl;
+    }
+}
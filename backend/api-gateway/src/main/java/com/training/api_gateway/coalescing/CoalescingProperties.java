@@ -0,0 +1,11 @@
+package com.training.api_gateway.coalescing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("gateway.coalescing")
+public record CoalescingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1MB") DataSize maxBodySize) {
+}
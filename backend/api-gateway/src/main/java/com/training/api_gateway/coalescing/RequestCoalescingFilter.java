@@ -0,0 +1,154 @@
+package com.training.api_gateway.coalescing;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.training.api_gateway.support.ResponseReplay;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Single-flight for identical concurrent GETs: the first request goes upstream, and requests arriving
+ * while it is in flight wait for and replay its response instead of making their own call.
+ */
+@Component
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    private final Map<String, Mono<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final CoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescingFilter(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gaugeMapSize("gateway.coalescing.in.flight", Tags.empty(), inFlight);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.enabled() || route == null || exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        String key = coalescingKey(route.getId(), exchange.getRequest());
+        Sinks.One<SharedResponse> sink = Sinks.one();
+        Mono<SharedResponse> shared = sink.asMono();
+        Mono<SharedResponse> leader = inFlight.putIfAbsent(key, shared);
+        if (leader != null) {
+            return leader.flatMap(response -> {
+                if (!response.isShareable()) {
+                    count(route.getId(), "retried");
+                    return chain.filter(exchange);
+                }
+                count(route.getId(), "shared");
+                return replay(exchange.getResponse(), response);
+            });
+        }
+
+        count(route.getId(), "upstream");
+        CoalescingResponse response = new CoalescingResponse(exchange.getResponse(), key, shared, sink);
+        // Errors and cancellations never reach writeWith; release any waiters so they go upstream themselves
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> response.publish(SharedResponse.UNSHAREABLE));
+    }
+
+    @Override
+    public int getOrder() {
+        // Must wrap the response before the write filter subscribes to the downstream body
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private static String coalescingKey(String routeId, ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        return routeId + ' ' + request.getURI().getRawPath() + '?' + request.getURI().getRawQuery()
+                + ' ' + headers.getFirst(HttpHeaders.ACCEPT) + ' ' + headers.getFirst(HttpHeaders.AUTHORIZATION);
+    }
+
+    private static Mono<Void> replay(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        ResponseReplay.replayHeaders(shared.headers(), response.getHeaders());
+        response.getHeaders().setContentLength(shared.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private void count(String routeId, String outcome) {
+        Counter.builder("gateway.coalescing.requests")
+                .description("GET requests by coalescing outcome; outcome=shared are upstream calls saved")
+                .tag("route", routeId)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private class CoalescingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final Mono<SharedResponse> shared;
+        private final Sinks.One<SharedResponse> sink;
+
+        CoalescingResponse(ServerHttpResponse delegate, String key, Mono<SharedResponse> shared,
+                           Sinks.One<SharedResponse> sink) {
+            super(delegate);
+            this.key = key;
+            this.shared = shared;
+            this.sink = sink;
+        }
+
+        // Only successful JSON bodies within max-body-size are held for waiters; anything else is written
+        // through as it arrives and the waiters make their own call
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            MediaType contentType = headers.getContentType();
+            long maxBytes = properties.maxBodySize().toBytes();
+            if (getStatusCode() == null || !getStatusCode().is2xxSuccessful() || contentType == null
+                    || !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                    || headers.containsKey(HttpHeaders.SET_COOKIE) || headers.getContentLength() > maxBytes) {
+                publish(SharedResponse.UNSHAREABLE);
+                return super.writeWith(body);
+            }
+            return ResponseReplay.read(body, maxBytes, bytes -> {
+                publish(new SharedResponse(getStatusCode(), ResponseReplay.endToEndHeaders(headers), bytes));
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            }, oversized -> {
+                publish(SharedResponse.UNSHAREABLE);
+                return super.writeWith(oversized);
+            });
+        }
+
+        // Streaming responses cannot be replayed to other clients
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            publish(SharedResponse.UNSHAREABLE);
+            return super.writeAndFlushWith(body);
+        }
+
+        void publish(SharedResponse response) {
+            // Later arrivals start a fresh upstream call rather than reusing a completed response
+            inFlight.remove(key, shared);
+            sink.tryEmitValue(response);
+        }
+    }
+}
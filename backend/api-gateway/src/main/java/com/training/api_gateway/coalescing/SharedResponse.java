@@ -0,0 +1,14 @@
+package com.training.api_gateway.coalescing;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+// What the leading request received upstream; UNSHAREABLE tells waiting requests to make their own call
+record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+    static final SharedResponse UNSHAREABLE = new SharedResponse(null, null, null);
+
+    boolean isShareable() {
+        return body != null;
+    }
+}
@@ -18,6 +18,7 @@ public class CorsConfig {
         corsConfig.setMaxAge(3600L); // 1 hour
         corsConfig.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         corsConfig.setAllowedHeaders(Arrays.asList("*"));
+        corsConfig.setExposedHeaders(Arrays.asList("X-Next-Cursor", "ETag")); // Keyset pagination cursor and cache validator
         corsConfig.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
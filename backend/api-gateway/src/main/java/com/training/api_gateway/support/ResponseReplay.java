@@ -0,0 +1,87 @@
+package com.training.api_gateway.support;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shared by the response cache and request coalescing, which both hold an upstream response in memory
+ * and write it again to other clients.
+ */
+public final class ResponseReplay {
+
+    // Hop-by-hop, recomputed per response, or computed by the gateway for each request's origin
+    private static final Set<String> NOT_REPLAYED = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "te", "trailer",
+            "transfer-encoding", "upgrade", "content-length", "date", "set-cookie");
+
+    private ResponseReplay() {}
+
+    /**
+     * Hands the body to {@code whole} as one array if it ends within {@code maxBytes}. Otherwise hands
+     * everything, the buffers already read followed by the rest, to {@code oversized} as it arrives, so
+     * at most {@code maxBytes} are ever held.
+     */
+    public static Mono<Void> read(Publisher<? extends DataBuffer> body, long maxBytes,
+                                  Function<byte[], Mono<Void>> whole,
+                                  Function<Flux<DataBuffer>, Mono<Void>> oversized) {
+        AtomicLong size = new AtomicLong();
+        return Flux.<DataBuffer>from(body)
+                .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > maxBytes)
+                .switchOnFirst((first, chunks) -> {
+                    Flux<DataBuffer> buffers = chunks.concatMapIterable(Function.identity());
+                    // Within the limit, the first chunk is only emitted when the body completes
+                    if (first.hasValue() && size.get() > maxBytes) {
+                        return oversized.apply(buffers);
+                    }
+                    return buffers.collectList().flatMap(list -> whole.apply(toBytes(list)));
+                })
+                .then();
+    }
+
+    /** A copy of the headers worth sending with a replayed body. */
+    public static HttpHeaders endToEndHeaders(HttpHeaders headers) {
+        HttpHeaders copy = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (!NOT_REPLAYED.contains(name.toLowerCase()) && !isCors(name)) {
+                copy.put(name, List.copyOf(values));
+            }
+        });
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+
+    /** Adds the replayed headers the response does not already carry. */
+    public static void replayHeaders(HttpHeaders replayed, HttpHeaders response) {
+        replayed.forEach((name, values) -> {
+            if (!isCors(name) && !response.containsKey(name)) {
+                response.put(name, values);
+            }
+        });
+    }
+
+    private static boolean isCors(String name) {
+        return name.regionMatches(true, 0, "Access-Control-", 0, 15);
+    }
+
+    private static byte[] toBytes(List<DataBuffer> buffers) {
+        int length = buffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        for (DataBuffer buffer : buffers) {
+            int count = buffer.readableByteCount();
+            buffer.read(bytes, offset, count);
+            offset += count;
+            DataBufferUtils.release(buffer);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,21 @@
+package com.training.api_gateway.support;
+
+import java.net.URI;
+
+import org.springframework.cloud.gateway.route.Route;
+
+/**
+ * The service a route forwards to. The discovery locator adds a route per registered service (id
+ * {@code ReactiveCompositeDiscoveryClient_<service>}, path {@code /<service>/**}) beside the configured
+ * ones, so limits, cache TTLs and cache invalidation are keyed by service rather than by route id.
+ */
+public final class TargetService {
+
+    private TargetService() {}
+
+    // The host of an lb:// URI is the service id; other routes are known by their id
+    public static String of(Route route) {
+        URI uri = route.getUri();
+        return "lb".equalsIgnoreCase(uri.getScheme()) && uri.getHost() != null ? uri.getHost() : route.getId();
+    }
+}
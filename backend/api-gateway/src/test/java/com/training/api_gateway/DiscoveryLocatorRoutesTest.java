@@ -0,0 +1,84 @@
+package com.training.api_gateway;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.training.api_gateway.cache.ResponseCacheFilter;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The discovery locator adds /<service>/** routes beside the configured /api/** ones. Both reach the same
+// service, so they must share its admission limits and cache invalidation.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "gateway.admission.routes.tracking-service.replenish-rate=1",
+        "gateway.admission.routes.tracking-service.burst-capacity=1"
+})
+class DiscoveryLocatorRoutesTest {
+
+    private static final Map<String, AtomicInteger> UPSTREAM_CALLS = new ConcurrentHashMap<>();
+    private static final DisposableServer UPSTREAM = HttpServer.create()
+            .port(0)
+            .handle((request, response) -> {
+                UPSTREAM_CALLS.computeIfAbsent(request.method() + " " + request.uri(), key -> new AtomicInteger())
+                        .incrementAndGet();
+                return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                        .sendString(Mono.just("[]"));
+            })
+            .bindNow();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void services(DynamicPropertyRegistry registry) {
+        String uri = "http://localhost:" + UPSTREAM.port();
+        registry.add("spring.cloud.discovery.client.simple.instances.training-program-service[0].uri", () -> uri);
+        registry.add("spring.cloud.discovery.client.simple.instances.tracking-service[0].uri", () -> uri);
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        UPSTREAM.disposeNow();
+    }
+
+    @Test
+    void locatorPathsShareTheServiceRateLimit() {
+        webTestClient.get().uri("/api/tracking/attendance").exchange().expectStatus().isOk();
+
+        webTestClient.get().uri("/tracking-service/api/tracking/attendance").exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().exists("Retry-After");
+    }
+
+    @Test
+    void writesThroughLocatorPathsInvalidateCachedReads() {
+        webTestClient.get().uri("/api/training/programs").exchange()
+                .expectHeader().valueEquals(ResponseCacheFilter.CACHE_STATUS_HEADER, "MISS");
+        webTestClient.get().uri("/api/training/programs").exchange()
+                .expectHeader().valueEquals(ResponseCacheFilter.CACHE_STATUS_HEADER, "HIT");
+
+        webTestClient.put().uri("/training-program-service/api/training/programs/1").exchange()
+                .expectStatus().isOk();
+
+        webTestClient.get().uri("/api/training/programs").exchange()
+                .expectHeader().valueEquals(ResponseCacheFilter.CACHE_STATUS_HEADER, "MISS");
+        assertThat(UPSTREAM_CALLS.get("PUT /api/training/programs/1")).hasValue(1);
+        assertThat(UPSTREAM_CALLS.get("GET /api/training/programs")).hasValue(2);
+    }
+}
@@ -0,0 +1,85 @@
+package com.training.benchmarks;
+
+import com.training.tracking_service.TrackingServiceApplication;
+import com.training.tracking_service.dto.BatchRowResult;
+import com.training.tracking_service.models.Attendance;
+import com.training.tracking_service.services.AttendanceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The same attendance rows recorded through POST /attendance one at a time (single) or in one
+// POST /attendance/batch (batch)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class AttendanceBatchBenchmark {
+    
+    private static final int EMPLOYEES = 1000;
+    private static final int SESSIONS = 50;
+    
+    @Param({"100", "1000"})
+    private int rows;
+    
+    private ConfigurableApplicationContext context;
+    private AttendanceService attendanceService;
+    private long records;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServiceContexts.start("tracking", TrackingServiceApplication.class);
+        attendanceService = context.getBean(AttendanceService.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<Attendance> single() {
+        List<Attendance> saved = new ArrayList<>(rows);
+        for (Attendance attendance : nextRows()) {
+            saved.add(attendanceService.recordAttendance(attendance));
+        }
+        return saved;
+    }
+    
+    @Benchmark
+    public List<BatchRowResult> batch() {
+        return attendanceService.recordAttendanceBatch(nextRows());
+    }
+    
+    private List<Attendance> nextRows() {
+        List<Attendance> attendances = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            long n = records++;
+            Attendance attendance = new Attendance();
+            attendance.setEmployeeId(n % EMPLOYEES);
+            attendance.setSessionId(n % SESSIONS);
+            attendance.setEmployeeName("Employee " + (n % EMPLOYEES));
+            attendance.setSessionName("Session " + (n % SESSIONS));
+            attendance.setPresent(n % 5 != 0);
+            attendances.add(attendance);
+        }
+        return attendances;
+    }
+}
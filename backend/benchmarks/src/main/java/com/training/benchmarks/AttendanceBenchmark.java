@@ -0,0 +1,60 @@
+package com.training.benchmarks;
+
+import com.training.tracking_service.TrackingServiceApplication;
+import com.training.tracking_service.models.Attendance;
+import com.training.tracking_service.services.AttendanceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class AttendanceBenchmark {
+    
+    private static final int EMPLOYEES = 1000;
+    private static final int SESSIONS = 50;
+    
+    private ConfigurableApplicationContext context;
+    private AttendanceService attendanceService;
+    private final AtomicLong records = new AtomicLong();
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServiceContexts.start("tracking", TrackingServiceApplication.class);
+        attendanceService = context.getBean(AttendanceService.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Attendance recordAttendance() {
+        long n = records.getAndIncrement();
+        Attendance attendance = new Attendance();
+        attendance.setEmployeeId(n % EMPLOYEES);
+        attendance.setSessionId(n % SESSIONS);
+        attendance.setEmployeeName("Employee " + (n % EMPLOYEES));
+        attendance.setSessionName("Session " + (n % SESSIONS));
+        attendance.setPresent(n % 5 != 0);
+        return attendanceService.recordAttendance(attendance);
+    }
+}
@@ -0,0 +1,99 @@
+package com.training.benchmarks;
+
+import com.training.tracking_service.TrackingServiceApplication;
+import com.training.tracking_service.models.Attendance;
+import com.training.tracking_service.repositories.AttendanceBatchRepository;
+import com.training.tracking_service.repositories.AttendanceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Range and keyset queries over a seeded attendance table, using the indexes from the tracking migrations
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class AttendanceQueryBenchmark {
+    
+    private static final int EMPLOYEES = 5000;
+    private static final int SESSIONS = 500;
+    private static final int SEED_CHUNK = 5000;
+    private static final Limit PAGE = Limit.of(100);
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 9, 0);
+    
+    @Param({"100000"})
+    private int rows;
+    
+    private ConfigurableApplicationContext context;
+    private AttendanceRepository attendanceRepository;
+    // Fixed seed so every run issues the same query sequence
+    private final SplittableRandom random = new SplittableRandom(42);
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServiceContexts.start("tracking", TrackingServiceApplication.class);
+        attendanceRepository = context.getBean(AttendanceRepository.class);
+        
+        AttendanceBatchRepository batchRepository = context.getBean(AttendanceBatchRepository.class);
+        SplittableRandom seedRandom = new SplittableRandom(7);
+        List<Attendance> chunk = new ArrayList<>(SEED_CHUNK);
+        for (int i = 0; i < rows; i++) {
+            Attendance attendance = new Attendance();
+            attendance.setEmployeeId((long) seedRandom.nextInt(EMPLOYEES));
+            attendance.setSessionId((long) seedRandom.nextInt(SESSIONS));
+            attendance.setAttendanceTime(EPOCH.plusMinutes(seedRandom.nextInt(365 * 24 * 60)));
+            attendance.setPresent(seedRandom.nextInt(5) != 0);
+            chunk.add(attendance);
+            if (chunk.size() == SEED_CHUNK) {
+                batchRepository.insertAll(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            batchRepository.insertAll(chunk);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<Attendance> sessionPresentPage() {
+        return attendanceRepository.findBySessionIdAndPresentAndIdGreaterThanOrderByIdAsc(
+                (long) random.nextInt(SESSIONS), true, 0L, PAGE);
+    }
+    
+    @Benchmark
+    public List<Attendance> employeeMonthRange() {
+        LocalDateTime from = EPOCH.plusDays(random.nextInt(335));
+        return attendanceRepository.findByEmployeeIdAndAttendanceTimeBetweenAndIdGreaterThanOrderByIdAsc(
+                (long) random.nextInt(EMPLOYEES), from, from.plusDays(30), 0L, PAGE);
+    }
+    
+    @Benchmark
+    public List<Attendance> keysetPage() {
+        return attendanceRepository.findByIdGreaterThanOrderByIdAsc((long) random.nextInt(rows), PAGE);
+    }
+}
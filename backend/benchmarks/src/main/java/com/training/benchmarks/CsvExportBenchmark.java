@@ -0,0 +1,116 @@
+package com.training.benchmarks;
+
+import com.training.tracking_service.TrackingServiceApplication;
+import com.training.tracking_service.models.Attendance;
+import com.training.tracking_service.pagination.CsvWriter;
+import com.training.tracking_service.repositories.AttendanceBatchRepository;
+import com.training.tracking_service.services.CsvExportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Full attendance export into a discarding stream. The table lives in a file-backed H2 database so the seeded rows
+// stay off the heap; run with -prof gc to confirm allocation per row stays flat as the row count grows.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx256m"})
+public class CsvExportBenchmark {
+    
+    private static final int EMPLOYEES = 5000;
+    private static final int SESSIONS = 500;
+    private static final int SEED_CHUNK = 5000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 9, 0);
+    
+    @Param({"10000000"})
+    private int rows;
+    
+    private ConfigurableApplicationContext context;
+    private CsvExportService csvExportService;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServiceContexts.start("tracking", List.of(
+                "spring.datasource.url=jdbc:h2:file:./target/csv-export-" + System.nanoTime()
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE"), TrackingServiceApplication.class);
+        csvExportService = context.getBean(CsvExportService.class);
+        
+        AttendanceBatchRepository batchRepository = context.getBean(AttendanceBatchRepository.class);
+        SplittableRandom seedRandom = new SplittableRandom(7);
+        List<Attendance> chunk = new ArrayList<>(SEED_CHUNK);
+        for (int i = 0; i < rows; i++) {
+            Attendance attendance = new Attendance();
+            attendance.setEmployeeId((long) seedRandom.nextInt(EMPLOYEES));
+            attendance.setSessionId((long) seedRandom.nextInt(SESSIONS));
+            attendance.setEmployeeName("Employee " + attendance.getEmployeeId());
+            attendance.setSessionName("Session, \"" + attendance.getSessionId() + "\"");
+            attendance.setAttendanceTime(EPOCH.plusMinutes(seedRandom.nextInt(365 * 24 * 60)));
+            attendance.setPresent(seedRandom.nextInt(5) != 0);
+            chunk.add(attendance);
+            if (chunk.size() == SEED_CHUNK) {
+                batchRepository.insertAll(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            batchRepository.insertAll(chunk);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public long exportAttendance() {
+        CountingOutputStream sink = new CountingOutputStream();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(sink, StandardCharsets.UTF_8), 64 * 1024)) {
+            csvExportService.exportAttendance(null, null, null, null, new CsvWriter(writer));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.printf("%n%d rows, %d bytes%n", rows, sink.bytes);
+        return sink.bytes;
+    }
+    
+    private static final class CountingOutputStream extends OutputStream {
+        private long bytes;
+        
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.training.benchmarks;
+
+import com.training.employee_service.EmployeeServiceApplication;
+import com.training.employee_service.dto.EmployeeImportResult;
+import com.training.employee_service.services.EmployeeImportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// A nightly HRIS sync through EmployeeImportService: into an empty table (all inserts) or over the same
+// employees with a changed department (all updates)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EmployeeImportBenchmark {
+    
+    @Param({"100000"})
+    private int rows;
+    
+    @Param({"insert", "update"})
+    private String mode;
+    
+    private ConfigurableApplicationContext context;
+    private EmployeeImportService employeeImportService;
+    private JdbcTemplate jdbcTemplate;
+    private byte[] csv;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServiceContexts.start("employee",
+                EmployeeServiceApplication.class, StubTrainingProgramClientConfiguration.class);
+        employeeImportService = context.getBean(EmployeeImportService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        csv = csv(rows, "Department");
+    }
+    
+    @Setup(Level.Iteration)
+    public void resetTable() {
+        jdbcTemplate.update("DELETE FROM employee");
+        if (mode.equals("update")) {
+            employeeImportService.importEmployees(new ByteArrayInputStream(csv(rows, "Previous")));
+        }
+    }
+    
+    private static byte[] csv(int rows, String department) {
+        StringBuilder csv = new StringBuilder("employeeId,email,firstName,lastName,department,position\r\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("EMP").append(i).append(",employee").append(i).append("@example.com,First").append(i)
+                    .append(",Last").append(i).append(',').append(department).append(i % 20).append(",Engineer\r\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public EmployeeImportResult importEmployees() {
+        return employeeImportService.importEmployees(new ByteArrayInputStream(csv));
+    }
+}
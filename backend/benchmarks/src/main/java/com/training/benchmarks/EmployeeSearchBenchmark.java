@@ -0,0 +1,104 @@
+package com.training.benchmarks;
+
+import com.training.employee_service.EmployeeServiceApplication;
+import com.training.employee_service.models.Employee;
+import com.training.employee_service.services.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// First page of EmployeeService.searchEmployeesByLastName over 1,000,000 employees, through the ngram full-text
+// index (fulltext) or the LIKE scan (like). H2 has no full-text search, so this runs against a MySQL schema given
+// by -Dbenchmark.mysql.url, -Dbenchmark.mysql.username and -Dbenchmark.mysql.password. The table is seeded on the
+// first run and reused while it holds ROWS employees.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeSearchBenchmark {
+    
+    private static final int ROWS = 1_000_000;
+    private static final int SEED_BATCH = 10_000;
+    private static final String[] STEMS = {"And", "Bar", "Car", "Dal", "Ell", "Fer", "Gar", "Har", "Ing", "Jor",
+            "Kel", "Lar", "Mor", "Nel", "Ols", "Par", "Ros", "Sil", "Tor", "Val", "Wil", "Yor"};
+    private static final String[] ENDINGS = {"son", "sen", "ford", "man", "ley", "ton", "berg", "stein", "ez",
+            "ini", "ov", "ski", "wood", "ard"};
+    // One employee in 10,000; a rare term has to be found across the whole table
+    private static final String RARE_NAME = "Quixote";
+    
+    // son: about 7% of rows, xot: 0.01%, r: below the ngram size, so LIKE in both modes
+    @Param({"son", "xot", "r"})
+    private String term;
+    
+    @Param({"fulltext", "like"})
+    private String mode;
+    
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("benchmark.mysql.url");
+        if (url == null) {
+            throw new IllegalStateException("EmployeeSearchBenchmark needs a MySQL schema: pass -Dbenchmark.mysql.url, "
+                    + "-Dbenchmark.mysql.username and -Dbenchmark.mysql.password");
+        }
+        context = ServiceContexts.start("employee", List.of(
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + System.getProperty("benchmark.mysql.username", "root"),
+                        "spring.datasource.password=" + System.getProperty("benchmark.mysql.password", ""),
+                        "spring.flyway.locations=classpath:db/employee-mysql",
+                        "employee.search.full-text=" + mode.equals("fulltext")),
+                EmployeeServiceApplication.class, StubTrainingProgramClientConfiguration.class);
+        employeeService = context.getBean(EmployeeService.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+    
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee", Long.class);
+        if (rows != null && rows == ROWS) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM program_enrollment");
+        jdbcTemplate.update("DELETE FROM employee");
+        for (int from = 0; from < ROWS; from += SEED_BATCH) {
+            List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = from; i < from + SEED_BATCH; i++) {
+                String lastName = i % 10_000 == 0 ? RARE_NAME
+                        : STEMS[i % STEMS.length] + ENDINGS[(i / STEMS.length) % ENDINGS.length];
+                batch.add(new Object[] {"EMP" + i, "employee" + i + "@example.com", "First" + i, lastName,
+                        "Department" + (i % 20)});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO employee (employee_id, email, first_name, last_name, department) "
+                    + "VALUES (?, ?, ?, ?, ?)", batch);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<Employee> searchByLastName() {
+        return employeeService.searchEmployeesByLastName(term, null, 100);
+    }
+}
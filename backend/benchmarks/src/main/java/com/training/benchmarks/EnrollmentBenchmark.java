@@ -0,0 +1,83 @@
+package com.training.benchmarks;
+
+import com.training.employee_service.EmployeeServiceApplication;
+import com.training.employee_service.models.Employee;
+import com.training.employee_service.models.ProgramEnrollment;
+import com.training.employee_service.repositories.EmployeeRepository;
+import com.training.employee_service.services.EnrollmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EnrollmentBenchmark {
+    
+    @Param({"1000"})
+    private int employees;
+    
+    private ConfigurableApplicationContext context;
+    private EnrollmentService enrollmentService;
+    private List<Long> employeeIds;
+    private final AtomicLong enrollments = new AtomicLong();
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServiceContexts.start("employee",
+                EmployeeServiceApplication.class, StubTrainingProgramClientConfiguration.class);
+        enrollmentService = context.getBean(EnrollmentService.class);
+        employeeIds = seedEmployees(context, employees);
+    }
+    
+    static List<Long> seedEmployees(ConfigurableApplicationContext context, int employees) {
+        List<Employee> seeded = IntStream.range(0, employees)
+                .mapToObj(i -> {
+                    Employee employee = new Employee();
+                    employee.setFirstName("First" + i);
+                    employee.setLastName("Last" + i);
+                    employee.setEmail("employee" + i + "@example.com");
+                    employee.setDepartment("Department" + (i % 20));
+                    employee.setPosition("Engineer");
+                    employee.setEmployeeId("EMP" + i);
+                    return employee;
+                })
+                .toList();
+        return context.getBean(EmployeeRepository.class).saveAll(seeded).stream()
+                .map(Employee::getId)
+                .toList();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public ProgramEnrollment enrollEmployeeToProgram() {
+        // Each (employee, program) pair is used once so the unique enrollment key never trips
+        long n = enrollments.getAndIncrement();
+        Long employeeId = employeeIds.get((int) (n % employeeIds.size()));
+        long programId = n / employeeIds.size() + 1;
+        return enrollmentService.enrollEmployeeToProgram(employeeId, programId);
+    }
+}
@@ -0,0 +1,114 @@
+package com.training.benchmarks;
+
+import com.training.employee_service.EmployeeServiceApplication;
+import com.training.employee_service.models.ProgramEnrollment;
+import com.training.employee_service.services.EnrollmentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Enrollment throughput with more callers than pooled connections and a slow program lookup. "inside" wraps the
+// call in an outer transaction, reproducing the lookup running while a connection is checked out; "before" is the
+// service as it stands. Each iteration prints the mean Hikari connection hold (usage) and pool wait (acquire) time.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class EnrollmentConnectionBenchmark {
+    
+    @Param({"before", "inside"})
+    private String programLookup;
+    
+    @Param({"5"})
+    private int lookupLatencyMillis;
+    
+    @Param({"4"})
+    private int poolSize;
+    
+    private ConfigurableApplicationContext context;
+    private EnrollmentService enrollmentService;
+    private TransactionTemplate transactionTemplate;
+    private MeterRegistry meterRegistry;
+    private List<Long> employeeIds;
+    private final AtomicLong enrollments = new AtomicLong();
+    private final Snapshot usageSnapshot = new Snapshot();
+    private final Snapshot acquireSnapshot = new Snapshot();
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServiceContexts.start("employee", List.of(
+                        "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        // Every enrollment goes to the (stubbed) training program service
+                        "employee.program-cache.ttl=0s",
+                        "benchmark.program-lookup-latency=" + lookupLatencyMillis + "ms"),
+                EmployeeServiceApplication.class, StubTrainingProgramClientConfiguration.class);
+        enrollmentService = context.getBean(EnrollmentService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        meterRegistry = context.getBean(MeterRegistry.class);
+        employeeIds = EnrollmentBenchmark.seedEmployees(context, 1000);
+    }
+    
+    @TearDown(Level.Iteration)
+    public void reportPoolTimes() {
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").timer();
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        if (usage == null || acquire == null) {
+            return;
+        }
+        System.out.printf("%n[%s] connection hold %.3f ms, pool wait %.3f ms (mean per checkout)%n", programLookup,
+                usageSnapshot.meanSince(usage), acquireSnapshot.meanSince(acquire));
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public ProgramEnrollment enrollEmployeeToProgram() {
+        long n = enrollments.getAndIncrement();
+        Long employeeId = employeeIds.get((int) (n % employeeIds.size()));
+        long programId = n / employeeIds.size() + 1;
+        if ("inside".equals(programLookup)) {
+            return transactionTemplate.execute(status -> enrollmentService.enrollEmployeeToProgram(employeeId, programId));
+        }
+        return enrollmentService.enrollEmployeeToProgram(employeeId, programId);
+    }
+    
+    // Hikari's timers are cumulative for the trial, so each iteration reports the delta since the last one
+    private static final class Snapshot {
+        private long count;
+        private double totalMillis;
+        
+        private double meanSince(Timer timer) {
+            long countDelta = timer.count() - count;
+            double totalDelta = timer.totalTime(TimeUnit.MILLISECONDS) - totalMillis;
+            count = timer.count();
+            totalMillis = timer.totalTime(TimeUnit.MILLISECONDS);
+            return countDelta == 0 ? 0 : totalDelta / countDelta;
+        }
+    }
+}
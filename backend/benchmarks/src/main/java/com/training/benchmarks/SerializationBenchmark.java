@@ -0,0 +1,79 @@
+package com.training.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.training.employee_service.models.Employee;
+import com.training.tracking_service.models.Attendance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Response serialization for large list endpoints, configured like Spring Boot's auto-configured ObjectMapper
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SerializationBenchmark {
+    
+    @Param({"1000", "10000"})
+    private int size;
+    
+    private ObjectMapper objectMapper;
+    private List<Attendance> attendances;
+    private List<Employee> employees;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        
+        LocalDateTime time = LocalDateTime.of(2025, 1, 1, 9, 0);
+        attendances = IntStream.range(0, size)
+                .mapToObj(i -> new Attendance((long) i, (long) (i % 1000), (long) (i % 50),
+                        "Employee " + i, "Session " + (i % 50), time.plusMinutes(i), i % 5 != 0, "On time"))
+                .toList();
+        employees = IntStream.range(0, size)
+                .mapToObj(i -> {
+                    Employee employee = new Employee();
+                    employee.setId((long) i);
+                    employee.setFirstName("First" + i);
+                    employee.setLastName("Last" + i);
+                    employee.setEmail("employee" + i + "@example.com");
+                    employee.setDepartment("Department" + (i % 20));
+                    employee.setPosition("Engineer");
+                    employee.setEmployeeId("EMP" + i);
+                    return employee;
+                })
+                .toList();
+    }
+    
+    @Benchmark
+    public void serializeAttendances() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), attendances);
+    }
+    
+    @Benchmark
+    public void serializeEmployees() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), employees);
+    }
+}
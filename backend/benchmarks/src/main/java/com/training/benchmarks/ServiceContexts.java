@@ -0,0 +1,37 @@
+package com.training.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+
+// Boots a service's Spring context against an in-memory H2 database migrated with the service's own Flyway scripts
+final class ServiceContexts {
+    
+    private ServiceContexts() {}
+    
+    static ConfigurableApplicationContext start(String service, Class<?>... sources) {
+        return start(service, List.of(), sources);
+    }
+    
+    // Extra properties are applied after the defaults and override them
+    static ConfigurableApplicationContext start(String service, List<String> properties, Class<?>... sources) {
+        return new SpringApplicationBuilder(sources)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.config.name=benchmark",
+                        "spring.datasource.url=jdbc:h2:mem:" + service + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=none",
+                        "spring.jpa.open-in-view=false",
+                        "spring.flyway.locations=classpath:db/" + service,
+                        "eureka.client.enabled=false",
+                        "spring.cloud.discovery.enabled=false",
+                        "logging.level.root=WARN")
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+}
@@ -0,0 +1,67 @@
+package com.training.benchmarks;
+
+import com.training.employee_service.clients.TrainingProgramClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Replaces the Feign client so enrollment benchmarks measure the service and database, not the network;
+// benchmark.program-lookup-latency adds a fixed delay to each program lookup to stand in for a round-trip
+@Configuration
+class StubTrainingProgramClientConfiguration {
+    
+    private static final String STUB = "stubTrainingProgramClient";
+    
+    // Feign registers its clients as primary beans, so the stub is only chosen once the Feign one is demoted
+    @Bean
+    static BeanFactoryPostProcessor demoteFeignTrainingProgramClient() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanNamesForType(TrainingProgramClient.class, true, false)) {
+                if (!name.equals(STUB)) {
+                    beanFactory.getBeanDefinition(name).setPrimary(false);
+                }
+            }
+        };
+    }
+    
+    @Bean(STUB)
+    @Primary
+    TrainingProgramClient stubTrainingProgramClient(@Value("${benchmark.program-lookup-latency:0ms}") Duration latency) {
+        return new TrainingProgramClient() {
+            @Override
+            public ResponseEntity<Map<String, Object>> getProgramById(Long id) {
+                if (!latency.isZero()) {
+                    try {
+                        Thread.sleep(latency.toMillis());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return ResponseEntity.ok(Map.of("id", id, "name", "Program " + id, "category", "Benchmark"));
+            }
+            
+            @Override
+            public ResponseEntity<List<Map<String, Object>>> getProgramsByIds(Collection<Long> ids) {
+                return ResponseEntity.ok(ids.stream().map(id -> getProgramById(id).getBody()).toList());
+            }
+            
+            @Override
+            public ResponseEntity<Object> getSessionsByProgramId(Long programId) {
+                return ResponseEntity.ok(List.of());
+            }
+            
+            @Override
+            public ResponseEntity<List<Map<String, Object>>> getSessionsByIds(Collection<Long> ids) {
+                return ResponseEntity.ok(List.of());
+            }
+        };
+    }
+}
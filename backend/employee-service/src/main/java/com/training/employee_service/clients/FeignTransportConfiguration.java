@@ -0,0 +1,41 @@
+package com.training.employee_service.clients;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Feign calls go through the pooled Apache HttpClient 5 transport and a Resilience4j bulkhead and circuit
+// breaker; pool, timeout, bulkhead and breaker limits are set under spring.cloud.openfeign and resilience4j
+@Configuration
+public class FeignTransportConfiguration {
+    
+    // One breaker and bulkhead per Feign client, named after it, rather than one per client method
+    @Bean
+    public CircuitBreakerNameResolver circuitBreakerNameResolver() {
+        return (feignClientName, target, method) -> feignClientName;
+    }
+    
+    // httpcomponents.httpclient.pool.* gauges: leased/available connections, pending leases and pool limits
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        return registry -> {
+            if (connectionManager.getIfAvailable() instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign").bindTo(registry);
+            }
+        };
+    }
+    
+    // resilience4j.bulkhead.* gauges; breaker state and call metrics are bound by Spring Cloud CircuitBreaker
+    @Bean
+    public MeterBinder feignBulkheadMetrics(ObjectProvider<BulkheadRegistry> bulkheadRegistry) {
+        return registry -> bulkheadRegistry.ifAvailable(
+                bulkheads -> TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(registry));
+    }
+}
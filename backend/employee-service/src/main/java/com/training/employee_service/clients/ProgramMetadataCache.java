@@ -0,0 +1,112 @@
+package com.training.employee_service.clients;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.circuitbreaker.NoFallbackAvailableException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Bounded LRU with TTL in front of TrainingProgramClient; training-program-service evicts entries on update/delete
+@Component
+public class ProgramMetadataCache {
+    
+    private static final String CACHE_NAME = "program-metadata";
+    
+    private final TrainingProgramClient trainingProgramClient;
+    private final long ttlNanos;
+    private final Map<Long, CachedProgram> programs;
+    // Evictions per program id, guarded by programs; one entry per program ever updated or deleted
+    private final Map<Long, Long> generations = new HashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    
+    public ProgramMetadataCache(TrainingProgramClient trainingProgramClient,
+                                MeterRegistry meterRegistry,
+                                @Value("${employee.program-cache.max-entries:1000}") int maxEntries,
+                                @Value("${employee.program-cache.ttl:10m}") Duration ttl) {
+        this.trainingProgramClient = trainingProgramClient;
+        this.ttlNanos = ttl.toNanos();
+        this.hits = Counter.builder("cache.gets").tags("cache", CACHE_NAME, "result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tags("cache", CACHE_NAME, "result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME).register(meterRegistry);
+        this.programs = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedProgram> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("cache.size", this, ProgramMetadataCache::size).tag("cache", CACHE_NAME).register(meterRegistry);
+    }
+    
+    public Map<String, Object> getProgram(Long programId) {
+        CachedProgram cached;
+        long generation;
+        synchronized (programs) {
+            cached = programs.get(programId);
+            generation = generations.getOrDefault(programId, 0L);
+        }
+        if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+            hits.increment();
+            return cached.data();
+        }
+        
+        misses.increment();
+        ResponseEntity<Map<String, Object>> programResponse = fetchProgram(programId);
+        if (!programResponse.getStatusCode().is2xxSuccessful() || programResponse.getBody() == null) {
+            throw new RuntimeException("Training program not found with id: " + programId);
+        }
+        
+        Map<String, Object> programData = programResponse.getBody();
+        synchronized (programs) {
+            // An eviction during the fetch means the response may predate the update; serve it but don't cache it
+            if (generations.getOrDefault(programId, 0L) == generation) {
+                programs.put(programId, new CachedProgram(programData, System.nanoTime() + ttlNanos));
+            }
+        }
+        return programData;
+    }
+    
+    // Errors from training-program-service surface as before; an open breaker, a full bulkhead or a timeout
+    // means the service is unavailable rather than that the program is missing
+    private ResponseEntity<Map<String, Object>> fetchProgram(Long programId) {
+        try {
+            return trainingProgramClient.getProgramById(programId);
+        } catch (NoFallbackAvailableException e) {
+            if (e.getCause() instanceof FeignException feignException) {
+                throw feignException;
+            }
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Training program service unavailable", e.getCause());
+        }
+    }
+    
+    public void evict(Long programId) {
+        synchronized (programs) {
+            programs.remove(programId);
+            generations.merge(programId, 1L, Long::sum);
+        }
+    }
+    
+    private double size() {
+        synchronized (programs) {
+            return programs.size();
+        }
+    }
+    
+    private record CachedProgram(Map<String, Object> data, long expiresAt) {}
+}
@@ -0,0 +1,31 @@
+package com.training.employee_service.clients;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.Map;
+
+// One page of each list, oldest first, starting after the given id; limit is capped at 1000 by the tracking
+// service, and a full page carries the next cursor in X-Next-Cursor
+@FeignClient(name = "tracking-service")
+public interface TrackingClient {
+    
+    @GetMapping("/api/tracking/completions/employee/{employeeId}")
+    ResponseEntity<List<Map<String, Object>>> getCompletionsByEmployeeId(
+            @PathVariable Long employeeId, @RequestParam(value = "after", required = false) Long after,
+            @RequestParam("limit") int limit);
+    
+    @GetMapping("/api/tracking/attendance/employee/{employeeId}")
+    ResponseEntity<List<Map<String, Object>>> getAttendanceByEmployeeId(
+            @PathVariable Long employeeId, @RequestParam(value = "after", required = false) Long after,
+            @RequestParam("limit") int limit);
+    
+    @GetMapping("/api/tracking/feedback/employee/{employeeId}")
+    ResponseEntity<List<Map<String, Object>>> getFeedbackByEmployeeId(
+            @PathVariable Long employeeId, @RequestParam(value = "after", required = false) Long after,
+            @RequestParam("limit") int limit);
+}
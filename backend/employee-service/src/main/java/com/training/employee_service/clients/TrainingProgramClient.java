@@ -4,7 +4,10 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 @FeignClient(name = "training-program-service")
@@ -13,6 +16,13 @@ public interface TrainingProgramClient {
     @GetMapping("/api/training/programs/{id}")
     ResponseEntity<Map<String, Object>> getProgramById(@PathVariable Long id);
     
+    // Up to 500 ids per call; ids that do not exist are left out of the response
+    @GetMapping("/api/training/programs/batch")
+    ResponseEntity<List<Map<String, Object>>> getProgramsByIds(@RequestParam("ids") Collection<Long> ids);
+    
     @GetMapping("/api/training/sessions/program/{programId}")
     ResponseEntity<Object> getSessionsByProgramId(@PathVariable Long programId);
+    
+    @GetMapping("/api/training/sessions/batch")
+    ResponseEntity<List<Map<String, Object>>> getSessionsByIds(@RequestParam("ids") Collection<Long> ids);
 }
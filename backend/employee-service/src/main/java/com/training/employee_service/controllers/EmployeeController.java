@@ -1,12 +1,22 @@
 package com.training.employee_service.controllers;
 
+import com.training.employee_service.dto.EmployeeImportResult;
+import com.training.employee_service.dto.EmployeeSuggestion;
+import com.training.employee_service.dto.EmployeeTranscript;
 import com.training.employee_service.models.Employee;
+import com.training.employee_service.pagination.CursorPage;
+import com.training.employee_service.pagination.NdjsonStreamer;
+import com.training.employee_service.services.EmployeeImportService;
 import com.training.employee_service.services.EmployeeService;
+import com.training.employee_service.services.TranscriptService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -15,10 +25,20 @@ import java.util.List;
 public class EmployeeController {
     
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final TranscriptService transcriptService;
+    private final NdjsonStreamer ndjsonStreamer;
     
     @GetMapping
-    public ResponseEntity<List<Employee>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public ResponseEntity<List<Employee>> getAllEmployees(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(employeeService.getAllEmployees(after, limit), limit, Employee::getId);
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        return ndjsonStreamer.stream(employeeService::streamAllEmployees);
     }
     
     @GetMapping("/{id}")
@@ -28,6 +48,18 @@ public class EmployeeController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/{id}/transcript")
+    public ResponseEntity<EmployeeTranscript> getTranscript(@PathVariable Long id) {
+        return transcriptService.getTranscript(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/batch")
+    public ResponseEntity<List<Employee>> getEmployeesByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(employeeService.getEmployeesByIds(ids));
+    }
+    
     @GetMapping("/employee-id/{employeeId}")
     public ResponseEntity<Employee> getEmployeeByEmployeeId(@PathVariable String employeeId) {
         return employeeService.getEmployeeByEmployeeId(employeeId)
@@ -47,6 +79,12 @@ public class EmployeeController {
         return new ResponseEntity<>(employeeService.createEmployee(employee), HttpStatus.CREATED);
     }
     
+    // The body is read as it arrives rather than buffered
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<EmployeeImportResult> importEmployees(InputStream body) {
+        return ResponseEntity.ok(employeeImportService.importEmployees(body));
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<Employee> updateEmployee(@PathVariable Long id, @RequestBody Employee employee) {
         return ResponseEntity.ok(employeeService.updateEmployee(id, employee));
@@ -59,12 +97,27 @@ public class EmployeeController {
     }
     
     @GetMapping("/department/{department}")
-    public ResponseEntity<List<Employee>> getEmployeesByDepartment(@PathVariable String department) {
-        return ResponseEntity.ok(employeeService.getEmployeesByDepartment(department));
+    public ResponseEntity<List<Employee>> getEmployeesByDepartment(
+            @PathVariable String department,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(employeeService.getEmployeesByDepartment(department, after, limit),
+                limit, Employee::getId);
     }
     
     @GetMapping("/search")
-    public ResponseEntity<List<Employee>> searchEmployeesByLastName(@RequestParam String lastName) {
-        return ResponseEntity.ok(employeeService.searchEmployeesByLastName(lastName));
+    public ResponseEntity<List<Employee>> searchEmployeesByLastName(
+            @RequestParam String lastName,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(employeeService.searchEmployeesByLastName(lastName, after, limit),
+                limit, Employee::getId);
+    }
+    
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<EmployeeSuggestion>> autocompleteEmployees(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = EmployeeService.DEFAULT_SUGGESTIONS) int limit) {
+        return ResponseEntity.ok(employeeService.suggestEmployees(prefix, limit));
     }
 }
@@ -1,6 +1,8 @@
 package com.training.employee_service.controllers;
 
+import com.training.employee_service.dto.BulkEnrollmentResult;
 import com.training.employee_service.models.ProgramEnrollment;
+import com.training.employee_service.pagination.CursorPage;
 import com.training.employee_service.services.EnrollmentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -17,13 +19,21 @@ public class EnrollmentController {
     private final EnrollmentService enrollmentService;
     
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<List<ProgramEnrollment>> getEnrollmentsByEmployeeId(@PathVariable Long employeeId) {
-        return ResponseEntity.ok(enrollmentService.getEnrollmentsByEmployeeId(employeeId));
+    public ResponseEntity<List<ProgramEnrollment>> getEnrollmentsByEmployeeId(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(enrollmentService.getEnrollmentsByEmployeeId(employeeId, after, limit),
+                limit, ProgramEnrollment::getId);
     }
     
     @GetMapping("/program/{programId}")
-    public ResponseEntity<List<ProgramEnrollment>> getEnrollmentsByProgramId(@PathVariable Long programId) {
-        return ResponseEntity.ok(enrollmentService.getEnrollmentsByProgramId(programId));
+    public ResponseEntity<List<ProgramEnrollment>> getEnrollmentsByProgramId(
+            @PathVariable Long programId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(enrollmentService.getEnrollmentsByProgramId(programId, after, limit),
+                limit, ProgramEnrollment::getId);
     }
     
     @PostMapping("/{employeeId}/program/{programId}")
@@ -35,6 +45,13 @@ public class EnrollmentController {
                 HttpStatus.CREATED);
     }
     
+    @PostMapping("/program/{programId}/bulk")
+    public ResponseEntity<BulkEnrollmentResult> enrollEmployeesToProgram(
+            @PathVariable Long programId,
+            @RequestBody List<Long> employeeIds) {
+        return ResponseEntity.ok(enrollmentService.enrollEmployeesToProgram(programId, employeeIds));
+    }
+    
     @PatchMapping("/{enrollmentId}/status")
     public ResponseEntity<ProgramEnrollment> updateEnrollmentStatus(
             @PathVariable Long enrollmentId,
@@ -49,12 +66,20 @@ public class EnrollmentController {
     }
     
     @GetMapping("/completed/employee/{employeeId}")
-    public ResponseEntity<List<ProgramEnrollment>> getCompletedEnrollmentsByEmployee(@PathVariable Long employeeId) {
-        return ResponseEntity.ok(enrollmentService.getCompletedEnrollmentsByEmployee(employeeId));
+    public ResponseEntity<List<ProgramEnrollment>> getCompletedEnrollmentsByEmployee(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(enrollmentService.getCompletedEnrollmentsByEmployee(employeeId, after, limit),
+                limit, ProgramEnrollment::getId);
     }
     
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<ProgramEnrollment>> getEnrollmentsByStatus(@PathVariable String status) {
-        return ResponseEntity.ok(enrollmentService.getEnrollmentsByStatus(status));
+    public ResponseEntity<List<ProgramEnrollment>> getEnrollmentsByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(enrollmentService.getEnrollmentsByStatus(status, after, limit),
+                limit, ProgramEnrollment::getId);
     }
 }
@@ -0,0 +1,20 @@
+package com.training.employee_service.controllers;
+
+import com.training.employee_service.clients.ProgramMetadataCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/employees/program-cache")
+@RequiredArgsConstructor
+public class ProgramCacheController {
+    
+    private final ProgramMetadataCache programMetadataCache;
+    
+    @DeleteMapping("/{programId}")
+    public ResponseEntity<Void> evictProgram(@PathVariable Long programId) {
+        programMetadataCache.evict(programId);
+        return ResponseEntity.noContent().build();
+    }
+}
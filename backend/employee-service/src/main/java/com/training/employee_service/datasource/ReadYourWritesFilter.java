@@ -0,0 +1,33 @@
+package com.training.employee_service.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Scopes write tracking to the request, so reads after a write in the same request (or, with a sticky window,
+// from the same client) are served by the primary
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final String clientHeader;
+
+    public ReadYourWritesFilter(ReplicaRoutingDataSource routingDataSource, String clientHeader) {
+        this.routingDataSource = routingDataSource;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        routingDataSource.beginRequest(request.getHeader(clientHeader));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            routingDataSource.endRequest();
+        }
+    }
+}
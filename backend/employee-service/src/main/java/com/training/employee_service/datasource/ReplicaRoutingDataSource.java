@@ -0,0 +1,240 @@
+package com.training.employee_service.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Hands out replica connections inside read-only transactions and primary connections everywhere else. Must sit
+// behind a LazyConnectionDataSourceProxy: the transaction manager asks for a connection before it marks the
+// transaction read-only, and the proxy defers the choice to the first statement.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<RequestState> REQUEST = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReplicaRoutingProperties properties;
+    // Client key -> System.nanoTime() until which its reads stay on the primary
+    private final Map<String, Long> stickyClients = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaRoutingProperties properties) {
+        this.primary = primary;
+        this.properties = properties;
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            ReplicaRoutingProperties.Replica config = properties.replicas().get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(config.url());
+            pool.setUsername(config.username());
+            pool.setPassword(config.password());
+            pool.setMaximumPoolSize(config.maxPoolSize());
+            pool.setReadOnly(true);
+            // A replica that is down must neither block startup nor hold a read for long
+            pool.setInitializationFailTimeout(-1);
+            pool.setConnectionTimeout(Math.max(250, properties.healthCheckTimeout().toMillis()));
+            replicas.add(new Replica(pool.getPoolName(), pool));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                recordWrite();
+            }
+            return primary.getConnection();
+        }
+        if (readsFromPrimary()) {
+            return primary.getConnection();
+        }
+        Replica replica = nextHealthyReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.pool.getConnection();
+        } catch (SQLException e) {
+            markDown(replica, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLException("Routed connections use the configured credentials");
+    }
+
+    // Called around each request by ReadYourWritesFilter
+    public void beginRequest(String clientKey) {
+        REQUEST.set(new RequestState(clientKey));
+    }
+
+    public void endRequest() {
+        REQUEST.remove();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        int timeoutSeconds = (int) Math.max(1, properties.healthCheckTimeout().toSeconds());
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (!connection.isValid(timeoutSeconds)) {
+                    markDown(replica, "connection invalid");
+                    continue;
+                }
+                // Embedded replicas have no replication to measure
+                if ("MySQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                    Long lag = replicationLagSeconds(connection, timeoutSeconds);
+                    replica.lagSeconds = lag;
+                    if (lag == null) {
+                        markDown(replica, "replication is not running");
+                        continue;
+                    }
+                    if (lag > properties.maxReplicationLag().toSeconds()) {
+                        markDown(replica, "replication lag " + lag + "s exceeds " + properties.maxReplicationLag());
+                        continue;
+                    }
+                }
+                markUp(replica);
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+        long now = System.nanoTime();
+        stickyClients.values().removeIf(until -> until - now < 0);
+    }
+
+    public Map<String, String> replicaStatus() {
+        Map<String, String> status = new LinkedHashMap<>();
+        replicas.forEach(replica -> status.put(replica.name, (replica.healthy ? "UP" : "DOWN")
+                + (replica.lagSeconds == null ? "" : ", lag " + replica.lagSeconds + "s")));
+        return status;
+    }
+
+    // Embedded replicas start empty; H2 scripts the primary's tables, indexes and sequences without their rows
+    public void copySchemaToReplicas() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SCRIPT NODATA")) {
+            while (rows.next()) {
+                script.add(rows.getString(1));
+            }
+        }
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement()) {
+                connection.setReadOnly(false);
+                for (String sql : script) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private boolean readsFromPrimary() {
+        RequestState request = REQUEST.get();
+        if (request == null) {
+            return false;
+        }
+        if (request.wrote && properties.readYourWrites()) {
+            return true;
+        }
+        Long until = request.clientKey == null ? null : stickyClients.get(request.clientKey);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    private void recordWrite() {
+        RequestState request = REQUEST.get();
+        if (request == null) {
+            return;
+        }
+        request.wrote = true;
+        if (request.clientKey != null && !properties.stickyWindow().isZero()) {
+            stickyClients.put(request.clientKey, System.nanoTime() + properties.stickyWindow().toNanos());
+        }
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private static void markUp(Replica replica) {
+        if (!replica.healthy) {
+            replica.healthy = true;
+            log.info("Read replica {} is back; routing read-only transactions to it", replica.name);
+        }
+    }
+
+    private static void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Read replica {} is unavailable, reading from the primary until it recovers: {}",
+                    replica.name, reason);
+        }
+    }
+
+    // Seconds_Behind_Source (MySQL 8.0.22 or later, REPLICATION CLIENT privilege), null when replication is
+    // stopped or not configured
+    private static Long replicationLagSeconds(Connection connection, int timeoutSeconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+            try (ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!status.next()) {
+                    return null;
+                }
+                long lag = status.getLong("Seconds_Behind_Source");
+                return status.wasNull() ? null : lag;
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final HikariDataSource pool;
+        private volatile boolean healthy = true;
+        private volatile Long lagSeconds;
+
+        private Replica(String name, HikariDataSource pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+    }
+
+    private static final class RequestState {
+        private final String clientKey;
+        private boolean wrote;
+
+        private RequestState(String clientKey) {
+            this.clientKey = clientKey;
+        }
+    }
+}
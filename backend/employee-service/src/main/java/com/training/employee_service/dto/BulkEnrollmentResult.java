@@ -0,0 +1,18 @@
+package com.training.employee_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentResult {
+    
+    private Long programId;
+    private List<Long> enrolled;
+    private List<Long> alreadyEnrolled;
+    private List<Long> notFound;
+}
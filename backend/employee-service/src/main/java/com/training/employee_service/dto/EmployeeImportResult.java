@@ -0,0 +1,24 @@
+package com.training.employee_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeImportResult {
+    
+    private long inserted;
+    private long updated;
+    private long unchanged;
+    private long rejected;
+    // Ordered by line and capped; rejected counts every refused row
+    private List<ImportRejection> rejections;
+    // Ordered by line; empty when every chunk was written
+    private List<ImportFailure> failures;
+    // Set when the import stopped early; lines after it were not read
+    private Long stoppedAfterLine;
+}
@@ -0,0 +1,17 @@
+package com.training.employee_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSuggestion {
+    
+    private Long id;
+    private String employeeId;
+    private String firstName;
+    private String lastName;
+    private String department;
+}
@@ -0,0 +1,27 @@
+package com.training.employee_service.dto;
+
+import com.training.employee_service.models.ProgramEnrollment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeTranscript {
+    
+    private Long employeeId;
+    private List<ProgramEnrollment> enrollments;
+    private List<Map<String, Object>> completions;
+    private List<Map<String, Object>> attendance;
+    private List<Map<String, Object>> feedback;
+    // The training sessions the attendance records refer to
+    private List<Map<String, Object>> sessions;
+    // Outcome per source: OK, TRUNCATED, TIMEOUT, FAILED, REJECTED or SKIPPED. A TRUNCATED source holds the records
+    // read before its page limit; any other source that is not OK contributes an empty list.
+    private Map<String, String> sources;
+    private boolean partial;
+}
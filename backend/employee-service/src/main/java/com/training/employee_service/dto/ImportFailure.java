@@ -0,0 +1,16 @@
+package com.training.employee_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportFailure {
+    
+    // The lines of a chunk that was rolled back; none of its rows were applied
+    private long fromLine;
+    private long toLine;
+    private String reason;
+}
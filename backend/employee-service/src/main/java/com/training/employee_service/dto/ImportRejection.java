@@ -0,0 +1,15 @@
+package com.training.employee_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRejection {
+    
+    private long line;
+    private String employeeId;
+    private String reason;
+}
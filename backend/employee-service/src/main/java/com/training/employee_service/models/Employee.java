@@ -3,7 +3,10 @@ package com.training.employee_service.models;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +28,10 @@ public class Employee {
     private String position;
     private String employeeId;
     
+    // Loaded a page (at most 1000 rows) at a time rather than per employee; kept out of toString/equals/hashCode
     @OneToMany(mappedBy = "employee", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 1000)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<ProgramEnrollment> enrollments = new ArrayList<>();
 }
@@ -0,0 +1,108 @@
+package com.training.employee_service.pagination;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 records read one at a time, so a request body is never held in memory. Accepts LF as well as CRLF
+// line endings and skips a leading byte order mark and blank lines.
+public final class CsvReader {
+
+    private final Reader in;
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private int pending = -2;
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    // Null once the input is exhausted
+    public Record next() {
+        try {
+            int c = read();
+            if (pending == -2) {
+                pending = -1;
+                if (c == '\uFEFF') {
+                    c = read();
+                }
+            }
+            while (c == '\r' || c == '\n') {
+                if (c == '\n') {
+                    line++;
+                }
+                c = read();
+            }
+            if (c == -1) {
+                return null;
+            }
+
+            long start = line;
+            List<String> fields = new ArrayList<>();
+            field.setLength(0);
+            boolean quoted = false;
+            boolean terminated = true;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        terminated = false;
+                        fields.add(field.toString());
+                        break;
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    fields.add(field.toString());
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') {
+                            pending = next;
+                        }
+                    }
+                    if (c != -1) {
+                        line++;
+                    }
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+            return new Record(start, fields, terminated);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending >= 0) {
+            int c = pending;
+            pending = -1;
+            return c;
+        }
+        return in.read();
+    }
+
+    // line is where the record starts; complete is false when the input ended inside a quoted field
+    public record Record(long line, List<String> fields, boolean complete) {}
+}
@@ -0,0 +1,98 @@
+package com.training.employee_service.repositories;
+
+import com.training.employee_service.models.Employee;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Bulk imports match on the natural keys and write in JDBC batches; with rewriteBatchedStatements each batch is
+// one round trip instead of a merge select and an update per employee
+@Repository
+@RequiredArgsConstructor
+public class EmployeeBatchRepository {
+
+    public enum Column {
+        EMPLOYEE_ID("employee_id", Employee::getEmployeeId, Employee::setEmployeeId),
+        EMAIL("email", Employee::getEmail, Employee::setEmail),
+        FIRST_NAME("first_name", Employee::getFirstName, Employee::setFirstName),
+        LAST_NAME("last_name", Employee::getLastName, Employee::setLastName),
+        DEPARTMENT("department", Employee::getDepartment, Employee::setDepartment),
+        POSITION("position", Employee::getPosition, Employee::setPosition);
+
+        private final String name;
+        private final Function<Employee, String> getter;
+        private final BiConsumer<Employee, String> setter;
+
+        Column(String name, Function<Employee, String> getter, BiConsumer<Employee, String> setter) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        public String get(Employee employee) {
+            return getter.apply(employee);
+        }
+
+        public void set(Employee employee, String value) {
+            setter.accept(employee, value);
+        }
+    }
+
+    private static final List<Column> ALL_COLUMNS = List.of(Column.values());
+    private static final String INSERT_SQL = "INSERT INTO employee ("
+            + ALL_COLUMNS.stream().map(column -> column.name).collect(Collectors.joining(", "))
+            + ") VALUES (" + String.join(", ", Collections.nCopies(ALL_COLUMNS.size(), "?")) + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Enrollments are not loaded; the employees returned only carry their own columns
+    public List<Employee> findByEmployeeIdInOrEmailIn(Collection<String> employeeIds, Collection<String> emails) {
+        List<Object> params = new ArrayList<>(employeeIds.size() + emails.size());
+        params.addAll(employeeIds);
+        params.addAll(emails);
+        String sql = "SELECT id, " + ALL_COLUMNS.stream().map(column -> column.name).collect(Collectors.joining(", "))
+                + " FROM employee WHERE employee_id IN (" + placeholders(employeeIds.size())
+                + ") OR email IN (" + placeholders(emails.size()) + ")";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            Employee employee = new Employee();
+            employee.setId(rs.getLong("id"));
+            for (Column column : ALL_COLUMNS) {
+                column.set(employee, rs.getString(column.name));
+            }
+            return employee;
+        }, params.toArray());
+    }
+
+    public void insertAll(List<Employee> employees, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, employees, batchSize, (ps, employee) -> {
+            for (int i = 0; i < ALL_COLUMNS.size(); i++) {
+                ps.setString(i + 1, ALL_COLUMNS.get(i).get(employee));
+            }
+        });
+    }
+
+    // Only the given columns are written, so fields missing from an import keep their stored values
+    public void updateAll(List<Employee> employees, List<Column> columns, int batchSize) {
+        String sql = "UPDATE employee SET "
+                + columns.stream().map(column -> column.name + " = ?").collect(Collectors.joining(", "))
+                + " WHERE id = ?";
+        jdbcTemplate.batchUpdate(sql, employees, batchSize, (ps, employee) -> {
+            for (int i = 0; i < columns.size(); i++) {
+                ps.setString(i + 1, columns.get(i).get(employee));
+            }
+            ps.setLong(columns.size() + 1, employee.getId());
+        });
+    }
+
+    private static String placeholders(int count) {
+        return count == 0 ? "NULL" : String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,16 +1,40 @@
 package com.training.employee_service.repositories;
 
 import com.training.employee_service.models.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+    List<Employee> findByIdInOrderByIdAsc(Collection<Long> ids);
     Optional<Employee> findByEmployeeId(String employeeId);
     Optional<Employee> findByEmail(String email);
-    List<Employee> findByDepartment(String department);
-    List<Employee> findByLastNameContainingIgnoreCase(String lastName);
+    List<Employee> findByDepartmentAndIdGreaterThanOrderByIdAsc(String department, Long after, Limit limit);
+    List<Employee> findByLastNameContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String lastName, Long after, Limit limit);
+    List<Employee> findByLastNameStartingWithOrderByLastNameAscIdAsc(String prefix, Limit limit);
+
+    // ngram full-text index (V3). Takes a quoted phrase: bare words are OR-ed in boolean mode, a phrase matches the
+    // term's ngrams in sequence. Terms shorter than ngram_token_size are not indexed.
+    @Query(value = "select * from employee where match(last_name) against (:phrase in boolean mode) "
+            + "and id > :after order by id", nativeQuery = true)
+    List<Employee> searchByLastName(String phrase, Long after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    // Fetch-joined so each streamed employee arrives with its enrollments; Hibernate groups the rows by root
+    @Query("select e from Employee e left join fetch e.enrollments order by e.id")
+    Stream<Employee> streamAll();
+
+    @Query("select e.id from Employee e where e.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
 }
@@ -0,0 +1,32 @@
+package com.training.employee_service.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Hibernate cannot batch IDENTITY inserts, so cohort enrollments go straight through JDBC
+@Repository
+@RequiredArgsConstructor
+public class ProgramEnrollmentBatchRepository {
+    
+    private static final String INSERT_SQL = "INSERT INTO program_enrollment "
+            + "(program_id, program_name, enrollment_date, status, employee_id) VALUES (?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public void insertAll(Long programId, String programName, String status, LocalDateTime enrollmentDate,
+                          List<Long> employeeIds, int batchSize) {
+        Timestamp timestamp = Timestamp.valueOf(enrollmentDate);
+        jdbcTemplate.batchUpdate(INSERT_SQL, employeeIds, batchSize, (ps, employeeId) -> {
+            ps.setLong(1, programId);
+            ps.setString(2, programName);
+            ps.setTimestamp(3, timestamp);
+            ps.setString(4, status);
+            ps.setLong(5, employeeId);
+        });
+    }
+}
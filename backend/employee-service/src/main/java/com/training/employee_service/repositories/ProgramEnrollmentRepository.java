@@ -1,15 +1,21 @@
 package com.training.employee_service.repositories;
 
 import com.training.employee_service.models.ProgramEnrollment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProgramEnrollmentRepository extends JpaRepository<ProgramEnrollment, Long> {
-    List<ProgramEnrollment> findByEmployeeId(Long employeeId);
-    List<ProgramEnrollment> findByProgramId(Long programId);
-    List<ProgramEnrollment> findByEmployeeIdAndStatus(Long employeeId, String status);
-    List<ProgramEnrollment> findByStatus(String status);
+    List<ProgramEnrollment> findByEmployeeIdAndIdGreaterThanOrderByIdAsc(Long employeeId, Long after, Limit limit);
+    List<ProgramEnrollment> findByProgramIdAndIdGreaterThanOrderByIdAsc(Long programId, Long after, Limit limit);
+    List<ProgramEnrollment> findByEmployeeIdAndStatusAndIdGreaterThanOrderByIdAsc(Long employeeId, String status, Long after, Limit limit);
+    List<ProgramEnrollment> findByStatusAndIdGreaterThanOrderByIdAsc(String status, Long after, Limit limit);
+
+    @Query("select e.employee.id from ProgramEnrollment e where e.programId = :programId and e.employee.id in :employeeIds")
+    List<Long> findEnrolledEmployeeIds(Long programId, Collection<Long> employeeIds);
 }
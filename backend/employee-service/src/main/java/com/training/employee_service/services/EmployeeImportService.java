@@ -0,0 +1,381 @@
+package com.training.employee_service.services;
+
+import com.training.employee_service.dto.EmployeeImportResult;
+import com.training.employee_service.dto.ImportFailure;
+import com.training.employee_service.dto.ImportRejection;
+import com.training.employee_service.models.Employee;
+import com.training.employee_service.pagination.CsvReader;
+import com.training.employee_service.repositories.EmployeeBatchRepository;
+import com.training.employee_service.repositories.EmployeeBatchRepository.Column;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// Bulk upsert of employees from CSV. The request thread splits records as they arrive and hands chunks to a
+// small worker pool, which parses and validates them in parallel. Keys repeated across the file are then checked
+// chunk by chunk in file order, and each chunk is matched on employeeId/email with one select and written in
+// batches in its own transaction, so a failed chunk does not undo the ones before it.
+@Slf4j
+@Service
+public class EmployeeImportService {
+
+    private static final int MAX_FIELD_LENGTH = 255;
+    private static final int MAX_ATTEMPTS = 2;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s]+@[^@\\s]+");
+    private static final Map<String, Column> HEADERS = Map.of(
+            "employeeid", Column.EMPLOYEE_ID,
+            "email", Column.EMAIL,
+            "firstname", Column.FIRST_NAME,
+            "lastname", Column.LAST_NAME,
+            "department", Column.DEPARTMENT,
+            "position", Column.POSITION);
+
+    private final EmployeeBatchRepository employeeBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int maxRows;
+    private final int maxRejections;
+    // Chunks held in memory across all running imports
+    private final Semaphore chunkSlots;
+    private final ExecutorService executor;
+
+    public EmployeeImportService(EmployeeBatchRepository employeeBatchRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${employee.import.chunk-size:1000}") int chunkSize,
+                                 @Value("${employee.import.parallelism:4}") int parallelism,
+                                 @Value("${employee.import.max-rows:200000}") int maxRows,
+                                 @Value("${employee.import.max-rejections:1000}") int maxRejections,
+                                 @Value("${employee.import.max-in-flight-chunks:16}") int maxInFlightChunks) {
+        this.employeeBatchRepository = employeeBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.maxRows = maxRows;
+        this.maxRejections = maxRejections;
+        this.chunkSlots = new Semaphore(maxInFlightChunks, true);
+        // A chunk has at most one task queued at a time, so the queue never holds more than the chunk slots
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxInFlightChunks));
+    }
+
+    public EmployeeImportResult importEmployees(InputStream body) {
+        CsvReader csv = new CsvReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), READ_BUFFER_SIZE));
+        Import run = new Import(readHeader(csv));
+
+        // Bounds the chunks this import parses ahead of the workers
+        Semaphore slots = new Semaphore(parallelism);
+        List<CompletableFuture<Void>> submitted = new ArrayList<>();
+        // Completes once every chunk submitted so far has been checked for keys repeated earlier in the file
+        CompletableFuture<Void> checked = CompletableFuture.completedFuture(null);
+        List<CsvReader.Record> chunk = new ArrayList<>(chunkSize);
+        long rows = 0;
+        Long stoppedAfterLine = null;
+
+        CsvReader.Record record;
+        while ((record = csv.next()) != null) {
+            if (run.failed) {
+                stoppedAfterLine = record.line() - 1;
+                break;
+            }
+            if (++rows > maxRows) {
+                run.reject(record.line(), null, "Import exceeds " + maxRows + " rows; later lines were not read");
+                stoppedAfterLine = record.line() - 1;
+                break;
+            }
+            chunk.add(record);
+            if (chunk.size() == chunkSize) {
+                CompletableFuture<List<ImportRow>> unique = submit(chunk, run, slots, checked, submitted);
+                checked = unique.handle((unused, e) -> null);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            submit(chunk, run, slots, checked, submitted);
+        }
+
+        submitted.forEach(CompletableFuture::join);
+        run.rejections.sort(Comparator.comparingLong(ImportRejection::getLine));
+        run.failures.sort(Comparator.comparingLong(ImportFailure::getFromLine));
+        return new EmployeeImportResult(run.inserted.sum(), run.updated.sum(), run.unchanged.sum(),
+                run.rejected.sum(), run.rejections, run.failures, stoppedAfterLine);
+    }
+
+    private static Header readHeader(CsvReader csv) {
+        CsvReader.Record header = csv.next();
+        if (header == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV body is empty");
+        }
+        List<Column> columns = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (String field : header.fields()) {
+            String name = field.trim();
+            Column column = HEADERS.get(name.replaceAll("[_\\- ]", "").toLowerCase(Locale.ROOT));
+            if (column == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown CSV column: " + name);
+            }
+            if (columns.contains(column)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Duplicate CSV column: " + name);
+            }
+            columns.add(column);
+            names.add(name);
+        }
+        if (!columns.contains(Column.EMPLOYEE_ID) || !columns.contains(Column.EMAIL)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header must include employeeId and email");
+        }
+        return new Header(columns, names);
+    }
+
+    private ImportRow parse(CsvReader.Record record, Import run) {
+        Header header = run.header;
+        if (!record.complete()) {
+            run.reject(record.line(), null, "Unterminated quoted field");
+            return null;
+        }
+        if (record.fields().size() != header.columns().size()) {
+            run.reject(record.line(), null,
+                    "Expected " + header.columns().size() + " fields but found " + record.fields().size());
+            return null;
+        }
+
+        Employee employee = new Employee();
+        for (int i = 0; i < header.columns().size(); i++) {
+            String value = record.fields().get(i).trim();
+            header.columns().get(i).set(employee, value.isEmpty() ? null : value);
+        }
+        String employeeId = employee.getEmployeeId();
+        String reason = null;
+        for (int i = 0; i < header.columns().size() && reason == null; i++) {
+            String value = header.columns().get(i).get(employee);
+            if (value != null && value.length() > MAX_FIELD_LENGTH) {
+                reason = header.names().get(i) + " exceeds " + MAX_FIELD_LENGTH + " characters";
+            }
+        }
+        if (reason == null && employeeId == null) {
+            reason = "employeeId is required";
+        } else if (reason == null && employee.getEmail() == null) {
+            reason = "email is required";
+        } else if (reason == null && !EMAIL.matcher(employee.getEmail()).matches()) {
+            reason = "email is not a valid address";
+        }
+        if (reason != null) {
+            run.reject(record.line(), employeeId, reason);
+            return null;
+        }
+        return new ImportRow(record.line(), employee);
+    }
+
+    // Runs for one chunk at a time, in file order
+    private static List<ImportRow> dropRepeatedKeys(List<ImportRow> rows, Import run) {
+        List<ImportRow> unique = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            Employee employee = row.employee();
+            if (!run.employeeIds.add(key(employee.getEmployeeId()))) {
+                run.reject(row.line(), employee.getEmployeeId(), "employeeId appears earlier in the file");
+            } else if (!run.emails.add(key(employee.getEmail()))) {
+                run.reject(row.line(), employee.getEmployeeId(), "email appears earlier in the file");
+            } else {
+                unique.add(row);
+            }
+        }
+        return unique;
+    }
+
+    // Parses the chunk on a worker, checks its keys once the chunks before it are checked, then writes it. The
+    // returned future completes after the check.
+    private CompletableFuture<List<ImportRow>> submit(List<CsvReader.Record> records, Import run, Semaphore slots,
+                                                      CompletableFuture<Void> checked,
+                                                      List<CompletableFuture<Void>> submitted) {
+        slots.acquireUninterruptibly();
+        chunkSlots.acquireUninterruptibly();
+        CompletableFuture<List<ImportRow>> unique;
+        try {
+            CompletableFuture<List<ImportRow>> parsed = CompletableFuture.supplyAsync(() -> {
+                List<ImportRow> rows = new ArrayList<>(records.size());
+                for (CsvReader.Record record : records) {
+                    ImportRow row = parse(record, run);
+                    if (row != null) {
+                        rows.add(row);
+                    }
+                }
+                return rows;
+            }, executor);
+            unique = checked.thenCombine(parsed, (unused, rows) -> dropRepeatedKeys(rows, run));
+        } catch (RuntimeException e) {
+            unique = CompletableFuture.failedFuture(e);
+        }
+        submitted.add(unique
+                .thenAcceptAsync(rows -> {
+                    if (!rows.isEmpty()) {
+                        apply(rows, run);
+                    }
+                }, executor)
+                .handle((unused, e) -> {
+                    if (e != null) {
+                        run.fail(records, e);
+                    }
+                    chunkSlots.release();
+                    slots.release();
+                    return null;
+                }));
+        return unique;
+    }
+
+    // A duplicate key means another writer inserted one of these employees after the select; the chunk is
+    // matched again against the committed rows before its rows are given up
+    private void apply(List<ImportRow> chunk, Import run) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                ChunkOutcome outcome = transactionTemplate.execute(status -> upsert(chunk, run.header.columns()));
+                run.inserted.add(outcome.inserted());
+                run.updated.add(outcome.updated());
+                run.unchanged.add(outcome.unchanged());
+                outcome.rejections().forEach(rejection ->
+                        run.reject(rejection.getLine(), rejection.getEmployeeId(), rejection.getReason()));
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    chunk.forEach(row -> run.reject(row.line(), row.employee().getEmployeeId(),
+                            "Conflicts with a concurrent change to the same employee"));
+                    return;
+                }
+            }
+        }
+    }
+
+    // Matches on employeeId first and email second; a row whose email belongs to a different employee is refused
+    // rather than merging two stored employees
+    private ChunkOutcome upsert(List<ImportRow> chunk, List<Column> columns) {
+        List<String> employeeIds = new ArrayList<>(chunk.size());
+        List<String> emails = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            employeeIds.add(row.employee().getEmployeeId());
+            emails.add(row.employee().getEmail());
+        }
+        Map<String, Employee> byEmployeeId = new HashMap<>();
+        Map<String, Employee> byEmail = new HashMap<>();
+        for (Employee stored : employeeBatchRepository.findByEmployeeIdInOrEmailIn(employeeIds, emails)) {
+            if (stored.getEmployeeId() != null) {
+                byEmployeeId.put(key(stored.getEmployeeId()), stored);
+            }
+            if (stored.getEmail() != null) {
+                byEmail.put(key(stored.getEmail()), stored);
+            }
+        }
+
+        List<Employee> inserts = new ArrayList<>();
+        List<Employee> updates = new ArrayList<>();
+        List<ImportRejection> rejections = new ArrayList<>();
+        long unchanged = 0;
+        for (ImportRow row : chunk) {
+            Employee employee = row.employee();
+            Employee sameId = byEmployeeId.get(key(employee.getEmployeeId()));
+            Employee sameEmail = byEmail.get(key(employee.getEmail()));
+            if (sameId != null && sameEmail != null && !sameId.getId().equals(sameEmail.getId())) {
+                rejections.add(new ImportRejection(row.line(), employee.getEmployeeId(),
+                        "email is already used by employee " + sameEmail.getEmployeeId()));
+                continue;
+            }
+            Employee stored = sameId != null ? sameId : sameEmail;
+            if (stored == null) {
+                employee.setId(null);
+                inserts.add(employee);
+            } else if (columns.stream().allMatch(column -> Objects.equals(column.get(stored), column.get(employee)))) {
+                unchanged++;
+            } else {
+                employee.setId(stored.getId());
+                updates.add(employee);
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            employeeBatchRepository.insertAll(inserts, chunkSize);
+        }
+        if (!updates.isEmpty()) {
+            employeeBatchRepository.updateAll(updates, columns, chunkSize);
+        }
+        return new ChunkOutcome(inserts.size(), updates.size(), unchanged, rejections);
+    }
+
+    // MySQL compares the natural keys case-insensitively
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private record Header(List<Column> columns, List<String> names) {}
+
+    private record ImportRow(long line, Employee employee) {}
+
+    private record ChunkOutcome(long inserted, long updated, long unchanged, List<ImportRejection> rejections) {}
+
+    private final class Import {
+        private final Header header;
+        // Keys seen earlier in the file; only touched by the in-order check
+        private final Set<String> employeeIds = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+        private final LongAdder inserted = new LongAdder();
+        private final LongAdder updated = new LongAdder();
+        private final LongAdder unchanged = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final List<ImportRejection> rejections = new ArrayList<>();
+        private final List<ImportFailure> failures = new ArrayList<>();
+        private volatile boolean failed;
+
+        private Import(Header header) {
+            this.header = header;
+        }
+
+        private void reject(long line, String employeeId, String reason) {
+            rejected.increment();
+            synchronized (rejections) {
+                if (rejections.size() < maxRejections) {
+                    rejections.add(new ImportRejection(line, employeeId, reason));
+                }
+            }
+        }
+
+        private void fail(List<CsvReader.Record> records, Throwable cause) {
+            long fromLine = records.get(0).line();
+            long toLine = records.get(records.size() - 1).line();
+            log.error("Employee import chunk at lines {}-{} failed", fromLine, toLine, cause);
+            synchronized (failures) {
+                failures.add(new ImportFailure(fromLine, toLine, "Chunk could not be saved"));
+            }
+            failed = true;
+        }
+    }
+}
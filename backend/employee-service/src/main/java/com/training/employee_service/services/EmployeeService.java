@@ -1,53 +1,135 @@
 package com.training.employee_service.services;
 
+import com.training.employee_service.dto.EmployeeSuggestion;
 import com.training.employee_service.models.Employee;
+import com.training.employee_service.pagination.CursorPage;
 import com.training.employee_service.repositories.EmployeeRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class EmployeeService {
     
+    // MySQL's default ngram_token_size
+    private static final int MIN_INDEXED_TERM_LENGTH = 2;
+    public static final String DEFAULT_SUGGESTIONS = "10";
+    private static final int MAX_SUGGESTIONS = 20;
+    // Larger batch lookups are answered with 413
+    public static final int MAX_BATCH_IDS = 500;
+    
     private final EmployeeRepository employeeRepository;
+    private final EntityManager entityManager;
+    
+    @Value("${employee.search.full-text:true}")
+    private boolean fullTextSearch;
+    
+    @Transactional(readOnly = true)
+    public List<Employee> getAllEmployees(Long after, int limit) {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(CursorPage.after(after), CursorPage.limit(limit));
+    }
     
-    public List<Employee> getAllEmployees() {
-        return employeeRepository.findAll();
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<Employee> sink) {
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            employees.forEach(employee -> {
+                sink.accept(employee);
+                entityManager.detach(employee);
+            });
+        }
     }
     
+    @Transactional(readOnly = true)
     public Optional<Employee> getEmployeeById(Long id) {
         return employeeRepository.findById(id);
     }
     
+    @Transactional(readOnly = true)
+    public List<Employee> getEmployeesByIds(Collection<Long> ids) {
+        Set<Long> uniqueIds = new HashSet<>(ids);
+        if (uniqueIds.size() > MAX_BATCH_IDS) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Batch lookup exceeds " + MAX_BATCH_IDS + " ids");
+        }
+        return uniqueIds.isEmpty() ? List.of() : employeeRepository.findByIdInOrderByIdAsc(uniqueIds);
+    }
+    
+    @Transactional(readOnly = true)
     public Optional<Employee> getEmployeeByEmployeeId(String employeeId) {
         return employeeRepository.findByEmployeeId(employeeId);
     }
     
+    @Transactional(readOnly = true)
     public Optional<Employee> getEmployeeByEmail(String email) {
         return employeeRepository.findByEmail(email);
     }
     
     public Employee createEmployee(Employee employee) {
-        return employeeRepository.save(employee);
+        return saveEmployee(employee);
     }
     
     public Employee updateEmployee(Long id, Employee updatedEmployee) {
         updatedEmployee.setId(id);
-        return employeeRepository.save(updatedEmployee);
+        return saveEmployee(updatedEmployee);
+    }
+    
+    private Employee saveEmployee(Employee employee) {
+        try {
+            return employeeRepository.save(employee);
+        } catch (DataIntegrityViolationException e) {
+            // uk_employee_employee_id, uk_employee_email
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Employee id or email is already in use");
+        }
     }
     
     public void deleteEmployee(Long id) {
         employeeRepository.deleteById(id);
     }
     
-    public List<Employee> getEmployeesByDepartment(String department) {
-        return employeeRepository.findByDepartment(department);
+    @Transactional(readOnly = true)
+    public List<Employee> getEmployeesByDepartment(String department, Long after, int limit) {
+        return employeeRepository.findByDepartmentAndIdGreaterThanOrderByIdAsc(
+                department, CursorPage.after(after), CursorPage.limit(limit));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Employee> searchEmployeesByLastName(String lastName, Long after, int limit) {
+        if (!fullTextSearch || lastName.trim().length() < MIN_INDEXED_TERM_LENGTH) {
+            return employeeRepository.findByLastNameContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(
+                    lastName, CursorPage.after(after), CursorPage.limit(limit));
+        }
+        return employeeRepository.searchByLastName(phrase(lastName), CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Employee> searchEmployeesByLastName(String lastName) {
-        return employeeRepository.findByLastNameContainingIgnoreCase(lastName);
+    @Transactional(readOnly = true)
+    public List<EmployeeSuggestion> suggestEmployees(String prefix, int limit) {
+        if (prefix.isBlank()) {
+            return List.of();
+        }
+        return employeeRepository.findByLastNameStartingWithOrderByLastNameAscIdAsc(
+                        prefix.trim(), Limit.of(Math.max(1, Math.min(limit, MAX_SUGGESTIONS))))
+                .stream()
+                .map(employee -> new EmployeeSuggestion(employee.getId(), employee.getEmployeeId(),
+                        employee.getFirstName(), employee.getLastName(), employee.getDepartment()))
+                .toList();
+    }
+
+    private static String phrase(String term) {
+        return "\"" + term.replace("\"", " ").trim() + "\"";
     }
 }
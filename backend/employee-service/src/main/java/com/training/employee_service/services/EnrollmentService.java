@@ -1,56 +1,135 @@
 package com.training.employee_service.services;
 
-import com.training.employee_service.clients.TrainingProgramClient;
+import com.training.employee_service.clients.ProgramMetadataCache;
+import com.training.employee_service.dto.BulkEnrollmentResult;
 import com.training.employee_service.models.Employee;
 import com.training.employee_service.models.ProgramEnrollment;
+import com.training.employee_service.pagination.CursorPage;
 import com.training.employee_service.repositories.EmployeeRepository;
+import com.training.employee_service.repositories.ProgramEnrollmentBatchRepository;
 import com.training.employee_service.repositories.ProgramEnrollmentRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class EnrollmentService {
     
+    private static final int MAX_BULK_ENROLL_ATTEMPTS = 3;
+    
     private final ProgramEnrollmentRepository enrollmentRepository;
+    private final ProgramEnrollmentBatchRepository enrollmentBatchRepository;
     private final EmployeeRepository employeeRepository;
-    private final TrainingProgramClient trainingProgramClient;
+    private final ProgramMetadataCache programMetadataCache;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${employee.enrollment.batch.chunk-size:500}")
+    private int batchChunkSize;
     
-    public List<ProgramEnrollment> getEnrollmentsByEmployeeId(Long employeeId) {
-        return enrollmentRepository.findByEmployeeId(employeeId);
+    @Value("${employee.enrollment.batch.max-employees:5000}")
+    private int batchMaxEmployees;
+    
+    @Transactional(readOnly = true)
+    public List<ProgramEnrollment> getEnrollmentsByEmployeeId(Long employeeId, Long after, int limit) {
+        return enrollmentRepository.findByEmployeeIdAndIdGreaterThanOrderByIdAsc(
+                employeeId, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<ProgramEnrollment> getEnrollmentsByProgramId(Long programId) {
-        return enrollmentRepository.findByProgramId(programId);
+    @Transactional(readOnly = true)
+    public List<ProgramEnrollment> getEnrollmentsByProgramId(Long programId, Long after, int limit) {
+        return enrollmentRepository.findByProgramIdAndIdGreaterThanOrderByIdAsc(
+                programId, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    @Transactional
+    // The program lookup may go over the network, so it runs before the transaction and before any query in
+    // the request; a JDBC connection is only checked out for the database work
     public ProgramEnrollment enrollEmployeeToProgram(Long employeeId, Long programId) {
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new RuntimeException("Employee not found with id: " + employeeId));
+        Map<String, Object> programData = programMetadataCache.getProgram(programId);
         
-        ResponseEntity<Map<String, Object>> programResponse = trainingProgramClient.getProgramById(programId);
-        if (!programResponse.getStatusCode().is2xxSuccessful() || programResponse.getBody() == null) {
-            throw new RuntimeException("Training program not found with id: " + programId);
+        try {
+            return transactionTemplate.execute(status -> {
+                Employee employee = employeeRepository.findById(employeeId)
+                        .orElseThrow(() -> new RuntimeException("Employee not found with id: " + employeeId));
+                
+                ProgramEnrollment enrollment = new ProgramEnrollment();
+                enrollment.setEmployee(employee);
+                enrollment.setProgramId(programId);
+                enrollment.setProgramName((String) programData.get("name"));
+                enrollment.setEnrollmentDate(LocalDateTime.now());
+                enrollment.setStatus("ENROLLED");
+                
+                return enrollmentRepository.save(enrollment);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // uk_enrollment_program_employee
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Employee " + employeeId + " is already enrolled in program " + programId);
+        }
+    }
+    
+    public BulkEnrollmentResult enrollEmployeesToProgram(Long programId, List<Long> employeeIds) {
+        Set<Long> requestedIds = new LinkedHashSet<>(employeeIds);
+        if (requestedIds.size() > batchMaxEmployees) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Bulk enrollment exceeds " + batchMaxEmployees + " employees");
         }
         
-        Map<String, Object> programData = programResponse.getBody();
+        Map<String, Object> programData = programMetadataCache.getProgram(programId);
         
-        ProgramEnrollment enrollment = new ProgramEnrollment();
-        enrollment.setEmployee(employee);
-        enrollment.setProgramId(programId);
-        enrollment.setProgramName((String) programData.get("name"));
-        enrollment.setEnrollmentDate(LocalDateTime.now());
-        enrollment.setStatus("ENROLLED");
+        // A concurrent enrollment can insert some of the same employees between the check and the batch insert.
+        // uk_enrollment_program_employee then rolls the batch back, and the re-run reports them as already enrolled.
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> enrollEmployees(programId, programData, requestedIds));
+            } catch (DuplicateKeyException e) {
+                if (attempt == MAX_BULK_ENROLL_ATTEMPTS) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "Enrollments in program " + programId + " kept changing during the bulk enrollment");
+                }
+            }
+        }
+    }
+    
+    private BulkEnrollmentResult enrollEmployees(Long programId, Map<String, Object> programData, Set<Long> requestedIds) {
+        Set<Long> existingIds = requestedIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(employeeRepository.findExistingIds(requestedIds));
+        Set<Long> enrolledIds = existingIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(enrollmentRepository.findEnrolledEmployeeIds(programId, existingIds));
         
-        return enrollmentRepository.save(enrollment);
+        List<Long> enrolled = new ArrayList<>();
+        List<Long> alreadyEnrolled = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+        for (Long employeeId : requestedIds) {
+            if (!existingIds.contains(employeeId)) {
+                notFound.add(employeeId);
+            } else if (enrolledIds.contains(employeeId)) {
+                alreadyEnrolled.add(employeeId);
+            } else {
+                enrolled.add(employeeId);
+            }
+        }
+        
+        enrollmentBatchRepository.insertAll(programId, (String) programData.get("name"), "ENROLLED",
+                LocalDateTime.now(), enrolled, batchChunkSize);
+        return new BulkEnrollmentResult(programId, enrolled, alreadyEnrolled, notFound);
     }
     
     @Transactional
@@ -66,11 +145,15 @@ public class EnrollmentService {
         enrollmentRepository.deleteById(enrollmentId);
     }
     
-    public List<ProgramEnrollment> getCompletedEnrollmentsByEmployee(Long employeeId) {
-        return enrollmentRepository.findByEmployeeIdAndStatus(employeeId, "COMPLETED");
+    @Transactional(readOnly = true)
+    public List<ProgramEnrollment> getCompletedEnrollmentsByEmployee(Long employeeId, Long after, int limit) {
+        return enrollmentRepository.findByEmployeeIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                employeeId, "COMPLETED", CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<ProgramEnrollment> getEnrollmentsByStatus(String status) {
-        return enrollmentRepository.findByStatus(status);
+    @Transactional(readOnly = true)
+    public List<ProgramEnrollment> getEnrollmentsByStatus(String status, Long after, int limit) {
+        return enrollmentRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                status, CursorPage.after(after), CursorPage.limit(limit));
     }
 }
@@ -0,0 +1,207 @@
+package com.training.employee_service.services;
+
+import com.training.employee_service.clients.TrackingClient;
+import com.training.employee_service.clients.TrainingProgramClient;
+import com.training.employee_service.dto.EmployeeTranscript;
+import com.training.employee_service.models.ProgramEnrollment;
+import com.training.employee_service.pagination.CursorPage;
+import com.training.employee_service.repositories.EmployeeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Gathers an employee's training record from this service, the tracking service and the training program
+// service at once. Each remote source has its own deadline; one that times out, fails or finds the pool full is
+// reported in the transcript's sources and left empty instead of failing the request. A source with more records
+// than its page limit returns the records read so far and is reported as TRUNCATED. Session details need the
+// attendance records first, so the slowest path is two deadlines long.
+@Service
+@Slf4j
+public class TranscriptService {
+    
+    public static final String OK = "OK";
+    public static final String TRUNCATED = "TRUNCATED";
+    public static final String TIMEOUT = "TIMEOUT";
+    public static final String FAILED = "FAILED";
+    public static final String SKIPPED = "SKIPPED";
+    public static final String REJECTED = "REJECTED";
+    // The training program service's batch lookup limit
+    private static final int MAX_SESSION_IDS = 500;
+    
+    private final EmployeeRepository employeeRepository;
+    private final EnrollmentService enrollmentService;
+    private final TrackingClient trackingClient;
+    private final TrainingProgramClient trainingProgramClient;
+    private final long sourceTimeoutMillis;
+    private final int maxPages;
+    private final ExecutorService executor;
+    
+    public TranscriptService(EmployeeRepository employeeRepository,
+                             EnrollmentService enrollmentService,
+                             TrackingClient trackingClient,
+                             TrainingProgramClient trainingProgramClient,
+                             @Value("${employee.transcript.source-timeout:1500ms}") Duration sourceTimeout,
+                             @Value("${employee.transcript.max-pages:5}") int maxPages,
+                             @Value("${employee.transcript.threads:32}") int threads,
+                             @Value("${employee.transcript.queue-capacity:128}") int queueCapacity) {
+        this.employeeRepository = employeeRepository;
+        this.enrollmentService = enrollmentService;
+        this.trackingClient = trackingClient;
+        this.trainingProgramClient = trainingProgramClient;
+        this.sourceTimeoutMillis = sourceTimeout.toMillis();
+        this.maxPages = maxPages;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity));
+    }
+    
+    // Empty when the employee does not exist. The two queries run on the request thread after the remote calls
+    // have answered or timed out: under open-in-view the request keeps its JDBC connection until the response
+    // is written, so querying first would hold it for the whole fan-out.
+    public Optional<EmployeeTranscript> getTranscript(Long employeeId) {
+        CompletableFuture<Result<List<Map<String, Object>>>> completions = fetchPages("completions",
+                after -> trackingClient.getCompletionsByEmployeeId(employeeId, after, CursorPage.MAX_LIMIT));
+        CompletableFuture<Result<List<Map<String, Object>>>> attendance = fetchPages("attendance",
+                after -> trackingClient.getAttendanceByEmployeeId(employeeId, after, CursorPage.MAX_LIMIT));
+        CompletableFuture<Result<List<Map<String, Object>>>> feedback = fetchPages("feedback",
+                after -> trackingClient.getFeedbackByEmployeeId(employeeId, after, CursorPage.MAX_LIMIT));
+        CompletableFuture<Result<List<Map<String, Object>>>> sessions = attendance.thenCompose(records -> {
+            // A truncated attendance list still names sessions; a failed one names none
+            if (!OK.equals(records.status()) && !TRUNCATED.equals(records.status())) {
+                return CompletableFuture.completedFuture(new Result<>(List.of(), SKIPPED));
+            }
+            Set<Long> sessionIds = sessionIds(records.value());
+            if (sessionIds.isEmpty()) {
+                return CompletableFuture.completedFuture(new Result<>(List.of(), OK));
+            }
+            String status = sessionIds.size() > MAX_SESSION_IDS ? TRUNCATED : OK;
+            Set<Long> batch = sessionIds.stream().limit(MAX_SESSION_IDS)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            return fetch("sessions", () -> new Result<>(body(trainingProgramClient.getSessionsByIds(batch)), status));
+        });
+        
+        // Every source completes by its deadline, with an empty result if need be
+        CompletableFuture.allOf(completions, attendance, feedback, sessions).join();
+        
+        if (!employeeRepository.existsById(employeeId)) {
+            return Optional.empty();
+        }
+        Result<List<ProgramEnrollment>> enrollments;
+        try {
+            // A full page may have more behind it, as with the X-Next-Cursor header
+            List<ProgramEnrollment> page =
+                    enrollmentService.getEnrollmentsByEmployeeId(employeeId, null, CursorPage.MAX_LIMIT);
+            enrollments = new Result<>(page, page.size() < CursorPage.MAX_LIMIT ? OK : TRUNCATED);
+        } catch (RuntimeException e) {
+            log.warn("Transcript source enrollments failed: {}", e.toString());
+            enrollments = new Result<>(List.of(), FAILED);
+        }
+        
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("enrollments", enrollments.status());
+        sources.put("completions", completions.join().status());
+        sources.put("attendance", attendance.join().status());
+        sources.put("feedback", feedback.join().status());
+        sources.put("sessions", sessions.join().status());
+        boolean partial = sources.values().stream().anyMatch(status -> !OK.equals(status));
+        
+        return Optional.of(new EmployeeTranscript(employeeId, enrollments.value(),
+                completions.join().value(), attendance.join().value(), feedback.join().value(),
+                sessions.join().value(), sources, partial));
+    }
+    
+    // Follows X-Next-Cursor for up to maxPages pages, all within the source's one deadline. Pages are not requested
+    // once the deadline has passed, so a timed-out source frees its thread after the call in flight.
+    private <T> CompletableFuture<Result<List<T>>> fetchPages(String source,
+                                                              Function<Long, ResponseEntity<List<T>>> page) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sourceTimeoutMillis);
+        return fetch(source, () -> {
+            List<T> rows = new ArrayList<>();
+            Long after = null;
+            for (int pages = 0; pages < maxPages && System.nanoTime() < deadline; pages++) {
+                ResponseEntity<List<T>> response = page.apply(after);
+                rows.addAll(body(response));
+                String next = response.getHeaders().getFirst(CursorPage.NEXT_CURSOR_HEADER);
+                if (next == null) {
+                    return new Result<>(rows, OK);
+                }
+                after = Long.valueOf(next);
+            }
+            log.warn("Transcript source {} truncated at {} records", source, rows.size());
+            return new Result<>(rows, TRUNCATED);
+        });
+    }
+    
+    // The deadline counts from submission, so time spent queued for a pool thread is included. A call that
+    // outlives it keeps its thread until the client's own read timeout.
+    private <T> CompletableFuture<Result<List<T>>> fetch(String source, Supplier<Result<List<T>>> call) {
+        CompletableFuture<Result<List<T>>> pending;
+        try {
+            pending = CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Transcript source {} rejected: the fan-out pool and its queue are full", source);
+            return CompletableFuture.completedFuture(new Result<>(List.of(), REJECTED));
+        }
+        return pending
+                .orTimeout(sourceTimeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((value, error) -> {
+                    if (error == null) {
+                        return value;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("Transcript source {} timed out after {}ms", source, sourceTimeoutMillis);
+                        return new Result<>(List.of(), TIMEOUT);
+                    }
+                    log.warn("Transcript source {} failed: {}", source, cause.toString());
+                    return new Result<>(List.of(), FAILED);
+                });
+    }
+    
+    private static <T> List<T> body(ResponseEntity<List<T>> response) {
+        return response.getBody() == null ? List.of() : response.getBody();
+    }
+    
+    // In attendance order; one id past a batch lookup's worth is enough to tell the sessions were truncated
+    private static Set<Long> sessionIds(List<Map<String, Object>> attendance) {
+        Set<Long> sessionIds = new LinkedHashSet<>();
+        for (Map<String, Object> record : attendance) {
+            if (record.get("sessionId") instanceof Number sessionId) {
+                sessionIds.add(sessionId.longValue());
+                if (sessionIds.size() > MAX_SESSION_IDS) {
+                    break;
+                }
+            }
+        }
+        return sessionIds;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    private record Result<T>(T value, String status) {}
+}
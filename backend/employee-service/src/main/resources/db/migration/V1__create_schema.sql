@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS employee (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255),
+    department VARCHAR(255),
+    position VARCHAR(255),
+    employee_id VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS program_enrollment (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    program_id BIGINT,
+    program_name VARCHAR(255),
+    enrollment_date DATETIME(6),
+    status VARCHAR(255),
+    employee_id BIGINT,
+    CONSTRAINT fk_enrollment_employee FOREIGN KEY (employee_id) REFERENCES employee (id)
+);
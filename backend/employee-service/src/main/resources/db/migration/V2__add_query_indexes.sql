@@ -0,0 +1,37 @@
+-- Duplicate natural keys from before these constraints are merged into the oldest employee: enrollments move to it,
+-- then the newer copies are removed. Keys left NULL are not unique and are left alone.
+UPDATE program_enrollment SET employee_id = (
+    SELECT MIN(k.id) FROM employee k JOIN employee d ON k.employee_id = d.employee_id
+    WHERE d.id = program_enrollment.employee_id)
+WHERE employee_id IN (
+    SELECT id FROM (SELECT e.id FROM employee e JOIN employee k ON k.employee_id = e.employee_id AND k.id < e.id) dup);
+DELETE FROM employee WHERE employee_id IS NOT NULL AND id NOT IN (
+    SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM employee GROUP BY employee_id) keep);
+
+UPDATE program_enrollment SET employee_id = (
+    SELECT MIN(k.id) FROM employee k JOIN employee d ON k.email = d.email
+    WHERE d.id = program_enrollment.employee_id)
+WHERE employee_id IN (
+    SELECT id FROM (SELECT e.id FROM employee e JOIN employee k ON k.email = e.email AND k.id < e.id) dup);
+DELETE FROM employee WHERE email IS NOT NULL AND id NOT IN (
+    SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM employee GROUP BY email) keep);
+
+-- Repeated enrollments of an employee in a program, including those created by the merge above: the first one stays
+DELETE FROM program_enrollment WHERE program_id IS NOT NULL AND employee_id IS NOT NULL AND id NOT IN (
+    SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM program_enrollment GROUP BY program_id, employee_id) keep);
+
+-- EmployeeRepository.findByEmployeeId, findByEmail: natural keys
+ALTER TABLE employee ADD CONSTRAINT uk_employee_employee_id UNIQUE (employee_id);
+ALTER TABLE employee ADD CONSTRAINT uk_employee_email UNIQUE (email);
+
+-- EmployeeRepository.findByDepartment...
+CREATE INDEX idx_employee_department ON employee (department);
+
+-- ProgramEnrollmentRepository.findByEmployeeId..., findByEmployeeIdAndStatus...
+CREATE INDEX idx_enrollment_employee_status ON program_enrollment (employee_id, status);
+
+-- ProgramEnrollmentRepository.findByProgramId..., findEnrolledEmployeeIds: one enrollment per employee and program
+ALTER TABLE program_enrollment ADD CONSTRAINT uk_enrollment_program_employee UNIQUE (program_id, employee_id);
+
+-- ProgramEnrollmentRepository.findByStatus...
+CREATE INDEX idx_enrollment_status ON program_enrollment (status);
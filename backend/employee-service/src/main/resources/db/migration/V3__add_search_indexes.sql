@@ -0,0 +1,10 @@
+-- EmployeeRepository.searchByLastName: substring search through an ngram full-text index
+-- InnoDB leaves out every ngram token containing a default stopword, and the list includes "a" and "i", so with it
+-- on searches for "Smith" or "Garcia" find nothing. The setting is read when the index is built; the session goes
+-- back to the server's setting afterwards, as Flyway may run on a pooled connection.
+SET SESSION innodb_ft_enable_stopword = OFF;
+ALTER TABLE employee ADD FULLTEXT INDEX ft_employee_last_name (last_name) WITH PARSER ngram;
+SET SESSION innodb_ft_enable_stopword = DEFAULT;
+
+-- EmployeeRepository.findByLastNameStartingWith...: prefix autocomplete as a range scan
+CREATE INDEX idx_employee_last_name ON employee (last_name);
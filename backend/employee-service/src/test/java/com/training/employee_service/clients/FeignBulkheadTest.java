@@ -0,0 +1,47 @@
+package com.training.employee_service.clients;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+// A Feign call goes through the semaphore bulkhead configured for its client, and the bulkhead is exported as
+// resilience4j.bulkhead.* gauges. No instance is registered, so the call itself fails.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employee_feign_bulkhead;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("loadtest")
+class FeignBulkheadTest {
+
+    @Autowired
+    private TrainingProgramClient trainingProgramClient;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void feignCallsAreLimitedByTheClientBulkhead() {
+        catchThrowable(() -> trainingProgramClient.getProgramById(1L));
+
+        Optional<Bulkhead> bulkhead = bulkheadRegistry.find("training-program-service");
+        assertThat(bulkhead).isPresent();
+        assertThat(bulkhead.get().getBulkheadConfig().getMaxConcurrentCalls()).isEqualTo(40);
+        assertThat(bulkhead.get().getMetrics().getAvailableConcurrentCalls()).isEqualTo(40);
+        assertThat(meterRegistry.find("resilience4j.bulkhead.max.allowed.concurrent.calls")
+                .tag("name", "training-program-service").gauge())
+                .isNotNull()
+                .satisfies(gauge -> assertThat(gauge.value()).isEqualTo(40.0));
+    }
+}
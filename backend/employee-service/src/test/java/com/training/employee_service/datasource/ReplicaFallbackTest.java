@@ -0,0 +1,40 @@
+package com.training.employee_service.datasource;
+
+import com.training.employee_service.services.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The only replica refuses connections, so the startup check marks it down and read-only transactions use the primary
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fallback_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.routing.enabled=true",
+        "datasource.routing.replicas[0].url=jdbc:h2:tcp://localhost:9/mem:unreachable",
+        "datasource.routing.replicas[0].username=sa",
+        "datasource.routing.replicas[0].password=",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("loadtest")
+class ReplicaFallbackTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Test
+    void readsFallBackToThePrimaryWhileTheReplicaIsDown() {
+        Long id = employeeService.createEmployee(ReplicaRoutingTest.employee("RF1")).getId();
+
+        assertThat(replicaRoutingDataSource.replicaStatus()).containsEntry("replica-0", "DOWN");
+        assertThat(employeeService.getEmployeeById(id)).isPresent();
+
+        // and stays out after the next scheduled check
+        replicaRoutingDataSource.checkReplicas();
+        assertThat(employeeService.getEmployeeById(id)).isPresent();
+    }
+}
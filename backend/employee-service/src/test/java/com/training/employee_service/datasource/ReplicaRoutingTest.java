@@ -0,0 +1,101 @@
+package com.training.employee_service.datasource;
+
+import com.training.employee_service.models.Employee;
+import com.training.employee_service.repositories.EmployeeRepository;
+import com.training.employee_service.services.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A primary and a replica H2 database with nothing replicated between them: the replica gets the schema at startup
+// and no rows, so a row written after startup is only found by reads that went to the primary
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.routing.enabled=true",
+        "datasource.routing.copy-schema-to-replicas=true",
+        "datasource.routing.sticky-window=5s",
+        "datasource.routing.replicas[0].url=jdbc:h2:mem:routing_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.routing.replicas[0].username=sa",
+        "datasource.routing.replicas[0].password=",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("loadtest")
+class ReplicaRoutingTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void endRequest() {
+        replicaRoutingDataSource.endRequest();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplicaAndWritesToThePrimary() {
+        Long id = employeeService.createEmployee(employee("RR1")).getId();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee WHERE id = ?", Long.class, id))
+                .isEqualTo(1L);
+        assertThat(employeeService.getEmployeeById(id)).isEmpty();
+        // Spring Data runs repository reads in their own read-only transaction
+        assertThat(employeeRepository.findById(id)).isEmpty();
+        Optional<Employee> inReadWriteTransaction =
+                new TransactionTemplate(transactionManager).execute(status -> employeeRepository.findById(id));
+        assertThat(inReadWriteTransaction).isPresent();
+        assertThat(replicaRoutingDataSource.replicaStatus()).containsEntry("replica-0", "UP");
+    }
+
+    @Test
+    void aRequestThatWroteReadsFromThePrimary() {
+        replicaRoutingDataSource.beginRequest(null);
+        Long id = employeeService.createEmployee(employee("RR2")).getId();
+        assertThat(employeeService.getEmployeeById(id)).isPresent();
+        replicaRoutingDataSource.endRequest();
+
+        replicaRoutingDataSource.beginRequest(null);
+        assertThat(employeeService.getEmployeeById(id)).isEmpty();
+    }
+
+    @Test
+    void aClientThatWroteReadsFromThePrimaryDuringTheStickyWindow() {
+        replicaRoutingDataSource.beginRequest("client-a");
+        Long id = employeeService.createEmployee(employee("RR3")).getId();
+        replicaRoutingDataSource.endRequest();
+
+        replicaRoutingDataSource.beginRequest("client-a");
+        assertThat(employeeService.getEmployeeById(id)).isPresent();
+        replicaRoutingDataSource.endRequest();
+
+        replicaRoutingDataSource.beginRequest("client-b");
+        assertThat(employeeService.getEmployeeById(id)).isEmpty();
+    }
+
+    static Employee employee(String employeeId) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setEmail(employeeId.toLowerCase() + "@example.com");
+        employee.setLastName("Routed");
+        return employee;
+    }
+}
@@ -0,0 +1,73 @@
+package com.training.employee_service.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// V2 against H2 in MySQL mode: the dedupe that runs before the unique constraints, and the index each repository
+// query is expected to use
+class QueryIndexMigrationTest {
+
+    @Test
+    void duplicateNaturalKeysAreMergedBeforeConstraintsAreAdded() {
+        DriverManagerDataSource dataSource = dataSource("employee_v2_dedupe");
+        migrate(dataSource, "1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO employee (id, employee_id, email) VALUES (1, 'E1', 'a@example.com')");
+        jdbc.update("INSERT INTO employee (id, employee_id, email) VALUES (2, 'E1', 'b@example.com')");
+        jdbc.update("INSERT INTO employee (id, employee_id, email) VALUES (3, 'E3', 'a@example.com')");
+        jdbc.update("INSERT INTO employee (id, employee_id, email) VALUES (4, NULL, NULL)");
+        jdbc.update("INSERT INTO employee (id, employee_id, email) VALUES (5, NULL, NULL)");
+        jdbc.update("INSERT INTO program_enrollment (id, program_id, employee_id, status) VALUES (1, 10, 1, 'ENROLLED')");
+        jdbc.update("INSERT INTO program_enrollment (id, program_id, employee_id, status) VALUES (2, 10, 2, 'COMPLETED')");
+        jdbc.update("INSERT INTO program_enrollment (id, program_id, employee_id, status) VALUES (3, 11, 2, 'ENROLLED')");
+        jdbc.update("INSERT INTO program_enrollment (id, program_id, employee_id, status) VALUES (4, 12, 3, 'ENROLLED')");
+
+        migrate(dataSource, "2");
+
+        assertThat(jdbc.queryForList("SELECT id FROM employee ORDER BY id", Long.class)).containsExactly(1L, 4L, 5L);
+        assertThat(jdbc.queryForList("SELECT id FROM program_enrollment WHERE employee_id = 1 ORDER BY id", Long.class))
+                .containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    void repositoryQueriesUseTheMigratedIndexes() {
+        DriverManagerDataSource dataSource = dataSource("employee_v2_plans");
+        migrate(dataSource, "2");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        Map<String, String> expectedIndexes = Map.of(
+                "SELECT * FROM employee WHERE employee_id = 'E1'", "uk_employee_employee_id",
+                "SELECT * FROM employee WHERE email = 'a@example.com'", "uk_employee_email",
+                "SELECT * FROM employee WHERE department = 'Sales' AND id > 0 ORDER BY id LIMIT 100",
+                "idx_employee_department",
+                "SELECT * FROM program_enrollment WHERE employee_id = 1 AND status = 'ENROLLED' AND id > 0 ORDER BY id",
+                "idx_enrollment_employee_status",
+                "SELECT * FROM program_enrollment WHERE program_id = 10 AND id > 0 ORDER BY id LIMIT 100",
+                "uk_enrollment_program_employee",
+                "SELECT employee_id FROM program_enrollment WHERE program_id = 10 AND employee_id IN (1, 2)",
+                "uk_enrollment_program_employee",
+                "SELECT * FROM program_enrollment WHERE status = 'ENROLLED' AND id > 0 ORDER BY id LIMIT 100",
+                "idx_enrollment_status");
+
+        expectedIndexes.forEach((sql, index) -> {
+            String plan = String.join("\n", jdbc.queryForList("EXPLAIN " + sql, String.class));
+            assertThat(plan).as(sql).containsIgnoringCase(index);
+        });
+    }
+
+    private static DriverManagerDataSource dataSource(String name) {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    // V3 adds MySQL full-text indexes, which H2 does not support
+    private static void migrate(DriverManagerDataSource dataSource, String target) {
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").target(target).load().migrate();
+    }
+}
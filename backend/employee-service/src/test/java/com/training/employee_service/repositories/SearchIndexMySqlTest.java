@@ -0,0 +1,51 @@
+package com.training.employee_service.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The V3 ngram index against a real MySQL server, which H2 cannot stand in for. Runs only when given an empty
+// schema to own: -Dtest.mysql.url=jdbc:mysql://host:3306/<schema> (plus test.mysql.username and
+// test.mysql.password); the schema is cleaned and migrated from scratch.
+@EnabledIfSystemProperty(named = "test.mysql.url", matches = ".+")
+class SearchIndexMySqlTest {
+
+    // EmployeeRepository.searchByLastName
+    private static final String SEARCH = "select last_name from employee "
+            + "where match(last_name) against (? in boolean mode) order by id";
+
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getProperty("test.mysql.url"),
+                System.getProperty("test.mysql.username", "root"), System.getProperty("test.mysql.password", ""));
+        Flyway flyway = Flyway.configure().dataSource(dataSource).locations("classpath:db/migration")
+                .cleanDisabled(false).load();
+        flyway.clean();
+        flyway.migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO employee (employee_id, email, last_name) VALUES ('E1', 'e1@example.com', 'Smith'), "
+                + "('E2', 'e2@example.com', 'Garcia'), ('E3', 'e3@example.com', 'Brown'), "
+                + "('E4', 'e4@example.com', 'Goldsmith')");
+    }
+
+    // "a" and "i" are default InnoDB stopwords: with them on, "ia" has no indexed ngram and "mi"/"it" are missing
+    // from "Smith"
+    @Test
+    void termsContainingStopwordLettersAreFound() {
+        assertThat(jdbc.queryForList(SEARCH, String.class, "\"Smith\"")).containsExactly("Smith", "Goldsmith");
+        assertThat(jdbc.queryForList(SEARCH, String.class, "\"garc\"")).containsExactly("Garcia");
+        assertThat(jdbc.queryForList(SEARCH, String.class, "\"ia\"")).containsExactly("Garcia");
+    }
+
+    @Test
+    void termsThatAppearNowhereFindNothing() {
+        assertThat(jdbc.queryForList(SEARCH, String.class, "\"Jones\"")).isEmpty();
+    }
+}
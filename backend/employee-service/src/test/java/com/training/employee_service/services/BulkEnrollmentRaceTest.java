@@ -0,0 +1,64 @@
+package com.training.employee_service.services;
+
+import com.training.employee_service.clients.ProgramMetadataCache;
+import com.training.employee_service.dto.BulkEnrollmentResult;
+import com.training.employee_service.repositories.ProgramEnrollmentRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+// Another request enrolls employee 2 after the already-enrolled check has read the table: the first check is
+// answered as if it ran just before that enrollment committed
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employee_bulk_enrollment_race;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("loadtest")
+class BulkEnrollmentRaceTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private ProgramEnrollmentRepository enrollmentRepository;
+
+    @MockitoBean
+    private ProgramMetadataCache programMetadataCache;
+
+    @Test
+    void employeesEnrolledConcurrentlyAreReportedAsAlreadyEnrolled() {
+        jdbcTemplate.update("INSERT INTO employee (id, employee_id, email) VALUES (1, 'E1', 'e1@example.com'), "
+                + "(2, 'E2', 'e2@example.com'), (3, 'E3', 'e3@example.com')");
+        jdbcTemplate.update("INSERT INTO program_enrollment (program_id, employee_id, status) VALUES (7, 2, 'ENROLLED')");
+        when(programMetadataCache.getProgram(anyLong())).thenReturn(Map.of("name", "Program 7"));
+        // The repository is a JDK proxy, so the spy's default answer delegates to it rather than calling a real method
+        Answer<?> repository = mockingDetails(enrollmentRepository).getMockCreationSettings().getDefaultAnswer();
+        doReturn(List.of()).doAnswer(repository).when(enrollmentRepository).findEnrolledEmployeeIds(anyLong(), any());
+
+        BulkEnrollmentResult result = enrollmentService.enrollEmployeesToProgram(7L, List.of(1L, 2L, 3L, 4L));
+
+        assertThat(result.getEnrolled()).containsExactly(1L, 3L);
+        assertThat(result.getAlreadyEnrolled()).containsExactly(2L);
+        assertThat(result.getNotFound()).containsExactly(4L);
+        assertThat(jdbcTemplate.queryForList("SELECT employee_id FROM program_enrollment WHERE program_id = 7 "
+                + "ORDER BY employee_id", Long.class)).containsExactly(1L, 2L, 3L);
+    }
+}
@@ -0,0 +1,72 @@
+package com.training.employee_service.services;
+
+import com.training.employee_service.dto.EmployeeImportResult;
+import com.training.employee_service.dto.ImportRejection;
+import com.training.employee_service.repositories.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Chunks of two rows, so repeated keys span chunks that are parsed concurrently
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employee_import;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "employee.import.chunk-size=2",
+        "employee.import.max-rows=6",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("loadtest")
+class EmployeeImportServiceTest {
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void keysRepeatedInLaterChunksAreRejectedInFileOrder() {
+        EmployeeImportResult result = importCsv("""
+                employeeId,email,lastName
+                R1,r1@example.com,One
+                R2,r2@example.com,Two
+                R3,r3@example.com,Three
+                R1,other@example.com,Again
+                R5,r2@example.com,Again
+                """);
+
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getRejections()).extracting(ImportRejection::getReason).containsExactly(
+                "employeeId appears earlier in the file", "email appears earlier in the file");
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getStoppedAfterLine()).isNull();
+        assertThat(employeeRepository.findByEmployeeId("R1").orElseThrow().getLastName()).isEqualTo("One");
+    }
+
+    @Test
+    void readingStopsAtMaxRows() {
+        StringBuilder csv = new StringBuilder("employeeId,email\n");
+        for (int i = 1; i <= 10; i++) {
+            csv.append("M").append(i).append(",m").append(i).append("@example.com\n");
+        }
+
+        EmployeeImportResult result = importCsv(csv.toString());
+
+        assertThat(result.getInserted()).isEqualTo(6);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getRejections()).extracting(ImportRejection::getLine).containsExactly(8L);
+        assertThat(result.getStoppedAfterLine()).isEqualTo(7L);
+        assertThat(employeeRepository.findByEmployeeId("M6")).isPresent();
+        assertThat(employeeRepository.findByEmployeeId("M7")).isEmpty();
+    }
+
+    private EmployeeImportResult importCsv(String csv) {
+        return employeeImportService.importEmployees(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,114 @@
+package com.training.employee_service.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.training.employee_service.models.Employee;
+import com.training.employee_service.pagination.CursorPage;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Statements issued to read and serialize 10,000 employees, each with two enrollments. Serialization touches
+// every enrollments collection, as Jackson does in the controllers while the session is still open.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employee_query_count;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("loadtest")
+class EmployeeQueryCountTest {
+
+    private static final int EMPLOYEES = 10_000;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee", Long.class);
+        if (rows != null && rows == EMPLOYEES) {
+            return;
+        }
+        List<Object[]> employees = new ArrayList<>(EMPLOYEES);
+        List<Object[]> enrollments = new ArrayList<>(EMPLOYEES * 2);
+        for (long id = 1; id <= EMPLOYEES; id++) {
+            employees.add(new Object[] {id, "EMP" + id, "employee" + id + "@example.com", "Last" + id});
+            enrollments.add(new Object[] {id * 2 - 1, 1L, id, "ENROLLED"});
+            enrollments.add(new Object[] {id * 2, 2L, id, "COMPLETED"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employee (id, employee_id, email, last_name) VALUES (?, ?, ?, ?)",
+                employees);
+        jdbcTemplate.batchUpdate("INSERT INTO program_enrollment (id, program_id, employee_id, status) "
+                + "VALUES (?, ?, ?, ?)", enrollments);
+    }
+
+    @Test
+    void eachListPageIsOneQueryForEmployeesAndOneForTheirEnrollments() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Long after = null;
+        for (int page = 0; page < EMPLOYEES / CursorPage.MAX_LIMIT; page++) {
+            Long cursor = after;
+            statistics.clear();
+            List<Employee> employees = readOnly.execute(status -> {
+                List<Employee> loaded = employeeService.getAllEmployees(cursor, CursorPage.MAX_LIMIT);
+                serialize(loaded);
+                return loaded;
+            });
+
+            assertThat(employees).hasSize(CursorPage.MAX_LIMIT);
+            assertThat(employees).allSatisfy(employee -> assertThat(employee.getEnrollments()).hasSize(2));
+            assertThat(statistics.getPrepareStatementCount()).as("statements for page %d", page).isEqualTo(2);
+            after = employees.get(employees.size() - 1).getId();
+        }
+    }
+
+    @Test
+    void streamingExportIsOneQuery() {
+        List<Integer> enrollmentCounts = new ArrayList<>(EMPLOYEES);
+        statistics.clear();
+
+        employeeService.streamAllEmployees(employee -> {
+            serialize(employee);
+            enrollmentCounts.add(employee.getEnrollments().size());
+        });
+
+        assertThat(enrollmentCounts).hasSize(EMPLOYEES).containsOnly(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void serialize(Object value) {
+        try {
+            objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
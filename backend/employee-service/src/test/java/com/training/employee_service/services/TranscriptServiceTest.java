@@ -0,0 +1,102 @@
+package com.training.employee_service.services;
+
+import com.training.employee_service.clients.TrackingClient;
+import com.training.employee_service.clients.TrainingProgramClient;
+import com.training.employee_service.dto.EmployeeTranscript;
+import com.training.employee_service.pagination.CursorPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+// Tracking sources are followed through X-Next-Cursor for two pages at most
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employee_transcript;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "employee.transcript.max-pages=2",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("loadtest")
+class TranscriptServiceTest {
+
+    @Autowired
+    private TranscriptService transcriptService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private TrackingClient trackingClient;
+
+    @MockitoBean
+    private TrainingProgramClient trainingProgramClient;
+
+    @BeforeEach
+    void employee() {
+        jdbcTemplate.update("MERGE INTO employee (id, employee_id, email) KEY (id) VALUES (1, 'E1', 'e1@example.com')");
+        when(trackingClient.getFeedbackByEmployeeId(eq(1L), any(), anyInt())).thenReturn(ResponseEntity.ok(List.of()));
+        when(trainingProgramClient.getSessionsByIds(any())).thenReturn(ResponseEntity.ok(List.of(Map.of("id", 5))));
+    }
+
+    @Test
+    void pagesAreFollowedUntilTheCursorRunsOut() {
+        when(trackingClient.getCompletionsByEmployeeId(eq(1L), isNull(), anyInt())).thenReturn(page(10, 11));
+        when(trackingClient.getCompletionsByEmployeeId(eq(1L), eq(11L), anyInt())).thenReturn(last(12));
+        when(trackingClient.getAttendanceByEmployeeId(eq(1L), isNull(), anyInt())).thenReturn(last(20));
+
+        EmployeeTranscript transcript = transcriptService.getTranscript(1L).orElseThrow();
+
+        assertThat(transcript.getCompletions()).extracting(record -> record.get("id")).containsExactly(10, 11, 12);
+        assertThat(transcript.getSessions()).hasSize(1);
+        assertThat(transcript.getSources()).containsOnly(
+                Map.entry("enrollments", TranscriptService.OK), Map.entry("completions", TranscriptService.OK),
+                Map.entry("attendance", TranscriptService.OK), Map.entry("feedback", TranscriptService.OK),
+                Map.entry("sessions", TranscriptService.OK));
+        assertThat(transcript.isPartial()).isFalse();
+    }
+
+    @Test
+    void aSourceWithMorePagesThanTheLimitIsTruncated() {
+        when(trackingClient.getCompletionsByEmployeeId(eq(1L), isNull(), anyInt())).thenReturn(last(10));
+        when(trackingClient.getAttendanceByEmployeeId(eq(1L), isNull(), anyInt())).thenReturn(page(20));
+        when(trackingClient.getAttendanceByEmployeeId(eq(1L), eq(20L), anyInt())).thenReturn(page(21));
+        when(trackingClient.getAttendanceByEmployeeId(eq(1L), eq(21L), anyInt())).thenReturn(last(22));
+
+        EmployeeTranscript transcript = transcriptService.getTranscript(1L).orElseThrow();
+
+        assertThat(transcript.getAttendance()).extracting(record -> record.get("id")).containsExactly(20, 21);
+        assertThat(transcript.getSources()).containsEntry("attendance", TranscriptService.TRUNCATED)
+                .containsEntry("sessions", TranscriptService.OK);
+        assertThat(transcript.getSessions()).hasSize(1);
+        assertThat(transcript.isPartial()).isTrue();
+    }
+
+    // A full page: the next cursor is the last id
+    private static ResponseEntity<List<Map<String, Object>>> page(int... ids) {
+        return ResponseEntity.ok().header(CursorPage.NEXT_CURSOR_HEADER, String.valueOf(ids[ids.length - 1]))
+                .body(records(ids));
+    }
+
+    private static ResponseEntity<List<Map<String, Object>>> last(int... ids) {
+        return ResponseEntity.ok(records(ids));
+    }
+
+    private static List<Map<String, Object>> records(int... ids) {
+        return Arrays.stream(ids).<Map<String, Object>>mapToObj(id -> Map.of("id", id, "sessionId", 5))
+                .toList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.training.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+// Sessions start: attendees check in one by one while trainers upload paper sign-in sheets as batches
+final class CheckInBurstScenario implements Scenario {
+    
+    private static final int SHEET_SIZE = 100;
+    
+    private final Fixtures fixtures;
+    
+    CheckInBurstScenario(Fixtures fixtures) {
+        this.fixtures = fixtures;
+    }
+    
+    @Override
+    public String name() {
+        return "checkin-burst";
+    }
+    
+    @Override
+    public void run(GatewayClient client, long n) {
+        Long sessionId = fixtures.sessionIds.get((int) (n % fixtures.sessionIds.size()));
+        if (n % 10 == 9) {
+            List<Map<String, Object>> sheet = IntStream.range(0, SHEET_SIZE)
+                    .mapToObj(i -> attendance(n * SHEET_SIZE + i, sessionId))
+                    .toList();
+            client.post("POST /api/tracking/attendance/batch", "/api/tracking/attendance/batch", sheet);
+        } else {
+            client.post("POST /api/tracking/attendance", "/api/tracking/attendance", attendance(n, sessionId));
+        }
+    }
+    
+    private Map<String, Object> attendance(long n, Long sessionId) {
+        return Map.of(
+                "employeeId", fixtures.employeeIds.get((int) (n % fixtures.employeeIds.size())),
+                "sessionId", sessionId,
+                "employeeName", "Employee " + n % fixtures.employeeIds.size(),
+                "sessionName", "Session " + sessionId,
+                "present", n % 8 != 0);
+    }
+}
@@ -0,0 +1,37 @@
+package com.training.loadtest;
+
+// Managers browsing dashboards: catalog pages, session rosters and the maintained summary endpoints
+final class DashboardReadsScenario implements Scenario {
+    
+    private final Fixtures fixtures;
+    
+    DashboardReadsScenario(Fixtures fixtures) {
+        this.fixtures = fixtures;
+    }
+    
+    @Override
+    public String name() {
+        return "dashboard-reads";
+    }
+    
+    @Override
+    public void run(GatewayClient client, long n) {
+        Long programId = fixtures.programIds.get((int) (n % fixtures.programIds.size()));
+        Long sessionId = fixtures.sessionIds.get((int) (n % fixtures.sessionIds.size()));
+        Long employeeId = fixtures.employeeIds.get((int) (n % fixtures.employeeIds.size()));
+        switch ((int) (n % 7)) {
+            case 0 -> client.get("GET /api/training/programs", "/api/training/programs?limit=50");
+            case 1 -> client.get("GET /api/training/sessions/program/{programId}",
+                    "/api/training/sessions/program/" + programId);
+            case 2 -> client.get("GET /api/tracking/attendance/session/{sessionId}/summary",
+                    "/api/tracking/attendance/session/" + sessionId + "/summary");
+            case 3 -> client.get("GET /api/tracking/completions/program/{programId}/summary",
+                    "/api/tracking/completions/program/" + programId + "/summary");
+            case 4 -> client.get("GET /api/tracking/feedback/program/{programId}/summary",
+                    "/api/tracking/feedback/program/" + programId + "/summary");
+            case 5 -> client.get("GET /api/employees/{id}", "/api/employees/" + employeeId);
+            default -> client.get("GET /api/employees/autocomplete",
+                    "/api/employees/autocomplete?prefix=Employee" + n % 100);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.training.loadtest;
+
+// Registration opens: employees enroll and immediately check their enrollments. Each enroll crosses the
+// employee-service -> training-program-service Feign hop for the program metadata.
+final class EnrollmentRushScenario implements Scenario {
+    
+    private final Fixtures fixtures;
+    
+    EnrollmentRushScenario(Fixtures fixtures) {
+        this.fixtures = fixtures;
+    }
+    
+    @Override
+    public String name() {
+        return "enrollment-rush";
+    }
+    
+    @Override
+    public void run(GatewayClient client, long n) {
+        int employees = fixtures.employeeIds.size();
+        Long employeeId = fixtures.employeeIds.get((int) (n % employees));
+        long pair = n / employees;
+        // Every (employee, program) pair is enrolled once; after that the rush only reads
+        if (pair < fixtures.programIds.size()) {
+            Long programId = fixtures.programIds.get((int) pair);
+            client.post("POST /api/employees/enrollments/{employeeId}/program/{programId}",
+                    "/api/employees/enrollments/" + employeeId + "/program/" + programId, null);
+        }
+        client.get("GET /api/employees/enrollments/employee/{employeeId}",
+                "/api/employees/enrollments/employee/" + employeeId + "?limit=20");
+    }
+}
@@ -0,0 +1,95 @@
+package com.training.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+// Programs, sessions and employees created through the gateway before any scenario runs
+final class Fixtures {
+    
+    static final int PROGRAMS = 20;
+    static final int SESSIONS_PER_PROGRAM = 5;
+    static final int EMPLOYEES = 5000;
+    static final int COMPLETIONS = 1000;
+    static final int FEEDBACK = 1000;
+    
+    final List<Long> programIds;
+    final List<Long> sessionIds;
+    final List<Long> employeeIds;
+    
+    private Fixtures(List<Long> programIds, List<Long> sessionIds, List<Long> employeeIds) {
+        this.programIds = programIds;
+        this.sessionIds = sessionIds;
+        this.employeeIds = employeeIds;
+    }
+    
+    static Fixtures seed(GatewayClient client) {
+        List<Long> programIds = IntStream.range(0, PROGRAMS).boxed()
+                .map(i -> id(client, "/api/training/programs", Map.of(
+                        "name", "Load Program " + i,
+                        "description", "Seeded by the load-test harness",
+                        "category", "Category " + (i % 5),
+                        "createdBy", "loadtest")))
+                .toList();
+        
+        LocalDateTime start = LocalDateTime.now().plusDays(7).withNano(0);
+        List<Long> sessionIds = new ArrayList<>();
+        for (int p = 0; p < programIds.size(); p++) {
+            for (int s = 0; s < SESSIONS_PER_PROGRAM; s++) {
+                LocalDateTime sessionStart = start.plusDays(p * SESSIONS_PER_PROGRAM + s);
+                sessionIds.add(id(client, "/api/training/sessions/program/" + programIds.get(p), Map.of(
+                        "title", "Load Session " + p + "-" + s,
+                        "startTime", sessionStart,
+                        "endTime", sessionStart.plusHours(2),
+                        "location", "Room " + (s + 1),
+                        "trainer", "Trainer " + (p % 4),
+                        "maxAttendees", 500)));
+            }
+        }
+        
+        List<Long> employeeIds = IntStream.range(0, EMPLOYEES).parallel().boxed()
+                .map(i -> id(client, "/api/employees", Map.of(
+                        "firstName", "Load" + i,
+                        "lastName", "Employee" + i,
+                        "email", "load" + i + "@example.com",
+                        "department", "Department " + (i % 10),
+                        "position", "Engineer",
+                        "employeeId", "LOAD" + i)))
+                .toList();
+        
+        // Completions and feedback give the dashboard summaries something to aggregate
+        IntStream.range(0, COMPLETIONS).parallel().forEach(i -> id(client, "/api/tracking/completions", Map.of(
+                "employeeId", employeeIds.get(i),
+                "programId", programIds.get(i % PROGRAMS),
+                "score", 50 + i % 51,
+                "status", i % 10 == 0 ? "FAILED" : "COMPLETE",
+                "completedBy", "Trainer " + (i % 4))));
+        IntStream.range(0, FEEDBACK).parallel().forEach(i -> id(client, "/api/tracking/feedback", Map.of(
+                "employeeId", employeeIds.get(i),
+                "programId", programIds.get(i % PROGRAMS),
+                "rating", 1 + i % 5,
+                "comments", "Seeded feedback",
+                "providedBy", "loadtest",
+                "type", "EMPLOYEE_TO_PROGRAM")));
+        
+        return new Fixtures(programIds, sessionIds, employeeIds);
+    }
+    
+    private static Long id(GatewayClient client, String path, Map<String, Object> body) {
+        try {
+            JsonNode created = client.seed(path, body);
+            return created.get("id").asLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Seeding " + path + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding interrupted", e);
+        }
+    }
+}
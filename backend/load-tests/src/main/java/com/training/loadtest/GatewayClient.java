@@ -0,0 +1,119 @@
+package com.training.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Issues requests through the api-gateway and records latency per route template
+final class GatewayClient {
+    
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private volatile Map<String, RouteStats> stats = new ConcurrentHashMap<>();
+    
+    GatewayClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+    
+    JsonNode get(String route, String path) {
+        return recorded(route, HttpRequest.newBuilder(uri(path)).GET());
+    }
+    
+    JsonNode post(String route, String path, Object body) {
+        return recorded(route, jsonRequest(path, body));
+    }
+    
+    // Unrecorded request for seeding; fails on any non-2xx response
+    JsonNode seed(String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(jsonRequest(path, body).timeout(REQUEST_TIMEOUT).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 300) {
+            throw new IOException(path + " returned " + response.statusCode());
+        }
+        return parse(response.body());
+    }
+    
+    // Unrecorded readiness probe; connection failures just mean "not yet"
+    boolean isReady(String path) throws InterruptedException {
+        try {
+            HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri(path)).GET()
+                    .timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+    
+    // Hands back the samples collected so far and starts a fresh set, e.g. after warm-up
+    Map<String, RouteStats> drainStats() {
+        Map<String, RouteStats> drained = stats;
+        stats = new ConcurrentHashMap<>();
+        return drained;
+    }
+    
+    private JsonNode recorded(String route, HttpRequest.Builder request) {
+        RouteStats routeStats = stats.computeIfAbsent(route, key -> new RouteStats());
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            routeStats.record(System.nanoTime() - start, true);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        boolean error = response.statusCode() >= 400;
+        routeStats.record(System.nanoTime() - start, error);
+        if (error) {
+            return null;
+        }
+        try {
+            return parse(response.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+    
+    private HttpRequest.Builder jsonRequest(String path, Object body) {
+        try {
+            if (body == null) {
+                return HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.noBody());
+            }
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body for " + path, e);
+        }
+    }
+    
+    private JsonNode parse(byte[] body) throws IOException {
+        return body.length == 0 ? null : objectMapper.readTree(body);
+    }
+    
+    // Absolute URLs bypass the gateway, e.g. when probing eureka-server directly
+    private URI uri(String path) {
+        return URI.create(path.startsWith("http") ? path : baseUrl + path);
+    }
+}
@@ -0,0 +1,45 @@
+package com.training.loadtest;
+
+import com.training.loadtest.RouteStats.RouteSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Per-route throughput and latency percentiles, printed as a table and written as CSV for comparing releases
+final class LoadReport {
+    
+    private final List<RouteSummary> rows = new ArrayList<>();
+    
+    void add(List<RouteSummary> scenarioRows) {
+        rows.addAll(scenarioRows);
+    }
+    
+    void print() {
+        System.out.printf(Locale.ROOT, "%n%-16s %-62s %9s %7s %9s %9s %9s %9s %9s%n",
+                "scenario", "route", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (RouteSummary row : rows) {
+            System.out.printf(Locale.ROOT, "%-16s %-62s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.scenario(), row.route(), row.requests(), row.errors(), row.throughput(),
+                    row.p50Millis(), row.p95Millis(), row.p99Millis(), row.maxMillis());
+        }
+    }
+    
+    void writeCsv(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("scenario,route,requests,errors,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms");
+        for (RouteSummary row : rows) {
+            lines.add(String.format(Locale.ROOT, "%s,\"%s\",%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f",
+                    row.scenario(), row.route(), row.requests(), row.errors(), row.throughput(),
+                    row.p50Millis(), row.p95Millis(), row.p99Millis(), row.maxMillis()));
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(file, lines);
+    }
+}
@@ -0,0 +1,138 @@
+package com.training.loadtest;
+
+import com.training.loadtest.RouteStats.RouteSummary;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives the scenario suite through the api-gateway with a fixed number of closed-loop workers.
+ *
+ * Options (all optional): --gateway=http://localhost:8080 --concurrency=32 --warmup=10s --duration=30s
+ * --scenarios=enrollment-rush,checkin-burst,dashboard-reads --report=target/load-report.csv
+ * --backend-dir=.. --no-boot (run against an already running stack instead of launching one)
+ * --threads=platform|virtual (request threads of the launched services; virtual needs JDK 21+)
+ */
+public class LoadTestRunner {
+    
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String gateway = options.getOrDefault("gateway", "http://localhost:8080");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+        Duration warmup = duration(options.getOrDefault("warmup", "10s"));
+        Duration measurement = duration(options.getOrDefault("duration", "30s"));
+        List<String> selected = Arrays.asList(options.getOrDefault("scenarios",
+                "enrollment-rush,checkin-burst,dashboard-reads").split(","));
+        Path report = Path.of(options.getOrDefault("report", "target/load-report.csv"));
+        boolean virtualThreads = threads(options.getOrDefault("threads", "platform"));
+        
+        GatewayClient client = new GatewayClient(gateway);
+        ServiceStack stack = new ServiceStack(Path.of(options.getOrDefault("backend-dir", "..")),
+                Path.of("target", "logs"), virtualThreads);
+        try {
+            if (!options.containsKey("no-boot")) {
+                System.out.println("Services run on " + (virtualThreads ? "virtual" : "platform") + " threads");
+                stack.start(client);
+            }
+            System.out.println("Seeding fixtures through " + gateway);
+            Fixtures fixtures = Fixtures.seed(client);
+            
+            LoadReport loadReport = new LoadReport();
+            for (Scenario scenario : List.of(new EnrollmentRushScenario(fixtures),
+                    new CheckInBurstScenario(fixtures), new DashboardReadsScenario(fixtures))) {
+                if (selected.contains(scenario.name())) {
+                    loadReport.add(run(scenario, client, concurrency, warmup, measurement));
+                }
+            }
+            loadReport.print();
+            loadReport.writeCsv(report);
+            System.out.println("\nReport written to " + report.toAbsolutePath());
+        } finally {
+            stack.close();
+        }
+    }
+    
+    private static List<RouteSummary> run(Scenario scenario, GatewayClient client, int concurrency,
+                                          Duration warmup, Duration measurement) throws InterruptedException {
+        System.out.println("Running " + scenario.name() + " with " + concurrency + " workers");
+        AtomicLong sequence = new AtomicLong();
+        drive(scenario, client, concurrency, warmup, sequence);
+        client.drainStats();
+        
+        long start = System.nanoTime();
+        drive(scenario, client, concurrency, measurement, sequence);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        
+        List<RouteSummary> rows = new ArrayList<>();
+        client.drainStats().forEach((route, stats) ->
+                rows.add(stats.summarize(scenario.name(), route, elapsedSeconds)));
+        rows.sort((a, b) -> a.route().compareTo(b.route()));
+        return rows;
+    }
+    
+    private static void drive(Scenario scenario, GatewayClient client, int concurrency, Duration length,
+                              AtomicLong sequence) throws InterruptedException {
+        long deadline = System.nanoTime() + length.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    scenario.run(client, sequence.getAndIncrement());
+                }
+            });
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(length.toSeconds() + 60, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+    
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+    
+    // Spring Boot ignores spring.threads.virtual.enabled below JDK 21, which would report a platform run as virtual
+    private static boolean threads(String value) {
+        switch (value) {
+            case "platform":
+                return false;
+            case "virtual":
+                if (Runtime.version().feature() < 21) {
+                    throw new IllegalArgumentException("--threads=virtual needs JDK 21+, running on "
+                            + Runtime.version());
+                }
+                return true;
+            default:
+                throw new IllegalArgumentException("--threads must be platform or virtual: " + value);
+        }
+    }
+    
+    // Accepts 90s, 5m or a plain number of seconds
+    private static Duration duration(String value) {
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value.endsWith("s") ? value.substring(0, value.length() - 1) : value));
+    }
+}
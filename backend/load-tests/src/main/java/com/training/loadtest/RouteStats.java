@@ -0,0 +1,44 @@
+package com.training.loadtest;
+
+import java.util.Arrays;
+
+// Raw latency samples for one route; sorted once when the scenario is summarized
+final class RouteStats {
+    
+    private long[] latencies = new long[4096];
+    private int count;
+    private long errors;
+    
+    synchronized void record(long latencyNanos, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+    }
+    
+    synchronized RouteSummary summarize(String scenario, String route, double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new RouteSummary(scenario, route, count, errors, count / elapsedSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]));
+    }
+    
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length) - 1;
+        return toMillis(sorted[Math.max(0, rank)]);
+    }
+    
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+    
+    record RouteSummary(String scenario, String route, long requests, long errors, double throughput,
+                        double p50Millis, double p95Millis, double p99Millis, double maxMillis) {}
+}
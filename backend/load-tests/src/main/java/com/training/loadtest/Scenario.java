@@ -0,0 +1,9 @@
+package com.training.loadtest;
+
+// One unit of simulated user work; n is a run-wide sequence number shared by all workers
+interface Scenario {
+    
+    String name();
+    
+    void run(GatewayClient client, long n);
+}
@@ -0,0 +1,96 @@
+package com.training.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Launches eureka-server, the three services (loadtest profile, embedded H2) and the api-gateway from their built jars
+final class ServiceStack implements AutoCloseable {
+    
+    private static final List<String> SERVICES = List.of(
+            "training-program-service", "employee-service", "tracking-service");
+    // One route per service behind the gateway; all must answer before seeding starts
+    private static final List<String> READINESS_PATHS = List.of(
+            "/api/training/programs?limit=1", "/api/employees?limit=1", "/api/tracking/attendance?limit=1");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    // Shorten discovery and load-balancer refresh so instances become routable in seconds rather than a minute
+    private static final List<String> DISCOVERY_ARGS = List.of(
+            "--eureka.client.registry-fetch-interval-seconds=5",
+            "--eureka.instance.lease-renewal-interval-in-seconds=5",
+            "--spring.cloud.loadbalancer.cache.ttl=5s");
+    
+    private final Path backendDir;
+    private final Path logDir;
+    private final boolean virtualThreads;
+    private final List<Process> processes = new ArrayList<>();
+    
+    ServiceStack(Path backendDir, Path logDir, boolean virtualThreads) {
+        this.backendDir = backendDir;
+        this.logDir = logDir;
+        this.virtualThreads = virtualThreads;
+    }
+    
+    void start(GatewayClient client) throws IOException, InterruptedException {
+        Files.createDirectories(logDir);
+        launch("eureka-server", List.of());
+        waitFor(client, "http://localhost:8761/eureka/apps");
+        
+        List<String> serviceArgs = new ArrayList<>(DISCOVERY_ARGS);
+        serviceArgs.add("--spring.profiles.active=loadtest");
+        // Same switch as VIRTUAL_THREADS_ENABLED; set explicitly so an exported variable can't skew a comparison
+        serviceArgs.add("--spring.threads.virtual.enabled=" + virtualThreads);
+        for (String service : SERVICES) {
+            launch(service, serviceArgs);
+        }
+        List<String> gatewayArgs = new ArrayList<>(DISCOVERY_ARGS);
+        // Every worker shares the loopback address; per-client rate limits would throttle the whole run
+        gatewayArgs.add("--gateway.admission.exempt-clients=127.0.0.1,0:0:0:0:0:0:0:1");
+        launch("api-gateway", gatewayArgs);
+        for (String path : READINESS_PATHS) {
+            waitFor(client, path);
+        }
+    }
+    
+    @Override
+    public void close() throws InterruptedException {
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+    
+    private void launch(String module, List<String> args) throws IOException {
+        Path jar = backendDir.resolve(module).resolve("target").resolve(module + "-0.0.1-SNAPSHOT.jar");
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Missing " + jar + "; run mvn package in " + module + " first");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(args);
+        
+        System.out.println("Starting " + module + " (log: " + logDir.resolve(module + ".log") + ")");
+        processes.add(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logDir.resolve(module + ".log").toFile())
+                .start());
+    }
+    
+    private void waitFor(GatewayClient client, String path) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (!client.isReady(path)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Timed out waiting for " + path);
+            }
+            Thread.sleep(1000);
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.training.tracking_service.controllers;
 
+import com.training.tracking_service.dto.BatchRowResult;
+import com.training.tracking_service.dto.SessionAttendanceSummary;
 import com.training.tracking_service.models.Attendance;
+import com.training.tracking_service.pagination.CursorPage;
+import com.training.tracking_service.pagination.NdjsonStreamer;
 import com.training.tracking_service.services.AttendanceService;
+import com.training.tracking_service.services.TrackingStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,10 +24,19 @@ import java.util.List;
 public class AttendanceController {
     
     private final AttendanceService attendanceService;
+    private final TrackingStatsService trackingStatsService;
+    private final NdjsonStreamer ndjsonStreamer;
     
     @GetMapping
-    public ResponseEntity<List<Attendance>> getAllAttendances() {
-        return ResponseEntity.ok(attendanceService.getAllAttendances());
+    public ResponseEntity<List<Attendance>> getAllAttendances(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(attendanceService.getAllAttendances(after, limit), limit, Attendance::getId);
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllAttendances() {
+        return ndjsonStreamer.stream(attendanceService::streamAllAttendances);
     }
     
     @GetMapping("/{id}")
@@ -35,6 +51,11 @@ public class AttendanceController {
         return new ResponseEntity<>(attendanceService.recordAttendance(attendance), HttpStatus.CREATED);
     }
     
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchRowResult>> recordAttendanceBatch(@RequestBody List<Attendance> attendances) {
+        return ResponseEntity.ok(attendanceService.recordAttendanceBatch(attendances));
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<Attendance> updateAttendance(@PathVariable Long id, @RequestBody Attendance attendance) {
         return ResponseEntity.ok(attendanceService.updateAttendance(id, attendance));
@@ -47,37 +68,64 @@ public class AttendanceController {
     }
     
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<List<Attendance>> getAttendancesByEmployeeId(@PathVariable Long employeeId) {
-        return ResponseEntity.ok(attendanceService.getAttendancesByEmployeeId(employeeId));
+    public ResponseEntity<List<Attendance>> getAttendancesByEmployeeId(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(attendanceService.getAttendancesByEmployeeId(employeeId, after, limit),
+                limit, Attendance::getId);
     }
     
     @GetMapping("/session/{sessionId}")
-    public ResponseEntity<List<Attendance>> getAttendancesBySessionId(@PathVariable Long sessionId) {
-        return ResponseEntity.ok(attendanceService.getAttendancesBySessionId(sessionId));
+    public ResponseEntity<List<Attendance>> getAttendancesBySessionId(
+            @PathVariable Long sessionId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(attendanceService.getAttendancesBySessionId(sessionId, after, limit),
+                limit, Attendance::getId);
     }
     
     @GetMapping("/employee/{employeeId}/session/{sessionId}")
     public ResponseEntity<List<Attendance>> getAttendanceByEmployeeAndSession(
             @PathVariable Long employeeId,
-            @PathVariable Long sessionId) {
-        return ResponseEntity.ok(attendanceService.getAttendanceByEmployeeAndSession(employeeId, sessionId));
+            @PathVariable Long sessionId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(attendanceService.getAttendanceByEmployeeAndSession(employeeId, sessionId, after, limit),
+                limit, Attendance::getId);
     }
     
     @GetMapping("/employee/{employeeId}/date-range")
     public ResponseEntity<List<Attendance>> getAttendancesByEmployeeInDateRange(
             @PathVariable Long employeeId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
-        return ResponseEntity.ok(attendanceService.getAttendancesByEmployeeInDateRange(employeeId, start, end));
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(attendanceService.getAttendancesByEmployeeInDateRange(employeeId, start, end, after, limit),
+                limit, Attendance::getId);
+    }
+    
+    @GetMapping("/session/{sessionId}/summary")
+    public ResponseEntity<SessionAttendanceSummary> getSessionAttendanceSummary(@PathVariable Long sessionId) {
+        return ResponseEntity.ok(trackingStatsService.getSessionAttendanceSummary(sessionId));
     }
     
     @GetMapping("/session/{sessionId}/present")
-    public ResponseEntity<List<Attendance>> getPresentAttendeesBySessionId(@PathVariable Long sessionId) {
-        return ResponseEntity.ok(attendanceService.getPresentAttendeesBySessionId(sessionId));
+    public ResponseEntity<List<Attendance>> getPresentAttendeesBySessionId(
+            @PathVariable Long sessionId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(attendanceService.getPresentAttendeesBySessionId(sessionId, after, limit),
+                limit, Attendance::getId);
     }
     
     @GetMapping("/session/{sessionId}/absent")
-    public ResponseEntity<List<Attendance>> getAbsentAttendeesBySessionId(@PathVariable Long sessionId) {
-        return ResponseEntity.ok(attendanceService.getAbsentAttendeesBySessionId(sessionId));
+    public ResponseEntity<List<Attendance>> getAbsentAttendeesBySessionId(
+            @PathVariable Long sessionId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(attendanceService.getAbsentAttendeesBySessionId(sessionId, after, limit),
+                limit, Attendance::getId);
     }
 }
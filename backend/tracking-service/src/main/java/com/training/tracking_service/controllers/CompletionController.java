@@ -1,12 +1,18 @@
 package com.training.tracking_service.controllers;
 
+import com.training.tracking_service.dto.ProgramCompletionSummary;
 import com.training.tracking_service.models.Completion;
+import com.training.tracking_service.pagination.CursorPage;
+import com.training.tracking_service.pagination.NdjsonStreamer;
 import com.training.tracking_service.services.CompletionService;
+import com.training.tracking_service.services.TrackingStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,10 +23,19 @@ import java.util.List;
 public class CompletionController {
     
     private final CompletionService completionService;
+    private final TrackingStatsService trackingStatsService;
+    private final NdjsonStreamer ndjsonStreamer;
     
     @GetMapping
-    public ResponseEntity<List<Completion>> getAllCompletions() {
-        return ResponseEntity.ok(completionService.getAllCompletions());
+    public ResponseEntity<List<Completion>> getAllCompletions(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(completionService.getAllCompletions(after, limit), limit, Completion::getId);
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllCompletions() {
+        return ndjsonStreamer.stream(completionService::streamAllCompletions);
     }
     
     @GetMapping("/{id}")
@@ -47,13 +62,26 @@ public class CompletionController {
     }
     
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<List<Completion>> getCompletionsByEmployeeId(@PathVariable Long employeeId) {
-        return ResponseEntity.ok(completionService.getCompletionsByEmployeeId(employeeId));
+    public ResponseEntity<List<Completion>> getCompletionsByEmployeeId(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(completionService.getCompletionsByEmployeeId(employeeId, after, limit),
+                limit, Completion::getId);
     }
     
     @GetMapping("/program/{programId}")
-    public ResponseEntity<List<Completion>> getCompletionsByProgramId(@PathVariable Long programId) {
-        return ResponseEntity.ok(completionService.getCompletionsByProgramId(programId));
+    public ResponseEntity<List<Completion>> getCompletionsByProgramId(
+            @PathVariable Long programId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(completionService.getCompletionsByProgramId(programId, after, limit),
+                limit, Completion::getId);
+    }
+    
+    @GetMapping("/program/{programId}/summary")
+    public ResponseEntity<ProgramCompletionSummary> getProgramCompletionSummary(@PathVariable Long programId) {
+        return ResponseEntity.ok(trackingStatsService.getProgramCompletionSummary(programId));
     }
     
     @GetMapping("/employee/{employeeId}/program/{programId}")
@@ -66,19 +94,30 @@ public class CompletionController {
     }
     
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Completion>> getCompletionsByStatus(@PathVariable String status) {
-        return ResponseEntity.ok(completionService.getCompletionsByStatus(status));
+    public ResponseEntity<List<Completion>> getCompletionsByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(completionService.getCompletionsByStatus(status, after, limit),
+                limit, Completion::getId);
     }
     
     @GetMapping("/date-range")
     public ResponseEntity<List<Completion>> getCompletionsInDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
-        return ResponseEntity.ok(completionService.getCompletionsInDateRange(start, end));
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(completionService.getCompletionsInDateRange(start, end, after, limit),
+                limit, Completion::getId);
     }
     
     @GetMapping("/completed-by/{completedBy}")
-    public ResponseEntity<List<Completion>> getCompletionsByCompletedBy(@PathVariable String completedBy) {
-        return ResponseEntity.ok(completionService.getCompletionsByCompletedBy(completedBy));
+    public ResponseEntity<List<Completion>> getCompletionsByCompletedBy(
+            @PathVariable String completedBy,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(completionService.getCompletionsByCompletedBy(completedBy, after, limit),
+                limit, Completion::getId);
     }
 }
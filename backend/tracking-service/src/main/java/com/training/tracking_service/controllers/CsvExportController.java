@@ -0,0 +1,50 @@
+package com.training.tracking_service.controllers;
+
+import com.training.tracking_service.pagination.CsvStreamer;
+import com.training.tracking_service.services.CsvExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/tracking/export")
+@RequiredArgsConstructor
+public class CsvExportController {
+    
+    private final CsvExportService csvExportService;
+    private final CsvStreamer csvStreamer;
+    
+    @GetMapping(value = "/attendance", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportAttendance(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long sessionId,
+            @RequestParam(required = false) Long employeeId) {
+        return csvStreamer.stream("attendance.csv",
+                csv -> csvExportService.exportAttendance(from, to, sessionId, employeeId, csv));
+    }
+    
+    @GetMapping(value = "/completions", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportCompletions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long programId,
+            @RequestParam(required = false) Long employeeId) {
+        return csvStreamer.stream("completions.csv",
+                csv -> csvExportService.exportCompletions(from, to, programId, employeeId, csv));
+    }
+    
+    @GetMapping(value = "/feedback", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportFeedback(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long programId,
+            @RequestParam(required = false) Long employeeId) {
+        return csvStreamer.stream("feedback.csv",
+                csv -> csvExportService.exportFeedback(from, to, programId, employeeId, csv));
+    }
+}
@@ -1,12 +1,18 @@
 package com.training.tracking_service.controllers;
 
+import com.training.tracking_service.dto.ProgramFeedbackSummary;
 import com.training.tracking_service.models.Feedback;
+import com.training.tracking_service.pagination.CursorPage;
+import com.training.tracking_service.pagination.NdjsonStreamer;
 import com.training.tracking_service.services.FeedbackService;
+import com.training.tracking_service.services.TrackingStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,10 +23,19 @@ import java.util.List;
 public class FeedbackController {
     
     private final FeedbackService feedbackService;
+    private final TrackingStatsService trackingStatsService;
+    private final NdjsonStreamer ndjsonStreamer;
     
     @GetMapping
-    public ResponseEntity<List<Feedback>> getAllFeedback() {
-        return ResponseEntity.ok(feedbackService.getAllFeedback());
+    public ResponseEntity<List<Feedback>> getAllFeedback(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(feedbackService.getAllFeedback(after, limit), limit, Feedback::getId);
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllFeedback() {
+        return ndjsonStreamer.stream(feedbackService::streamAllFeedback);
     }
     
     @GetMapping("/{id}")
@@ -47,42 +62,72 @@ public class FeedbackController {
     }
     
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<List<Feedback>> getFeedbackByEmployeeId(@PathVariable Long employeeId) {
-        return ResponseEntity.ok(feedbackService.getFeedbackByEmployeeId(employeeId));
+    public ResponseEntity<List<Feedback>> getFeedbackByEmployeeId(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(feedbackService.getFeedbackByEmployeeId(employeeId, after, limit),
+                limit, Feedback::getId);
     }
     
     @GetMapping("/program/{programId}")
-    public ResponseEntity<List<Feedback>> getFeedbackByProgramId(@PathVariable Long programId) {
-        return ResponseEntity.ok(feedbackService.getFeedbackByProgramId(programId));
+    public ResponseEntity<List<Feedback>> getFeedbackByProgramId(
+            @PathVariable Long programId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(feedbackService.getFeedbackByProgramId(programId, after, limit),
+                limit, Feedback::getId);
+    }
+    
+    @GetMapping("/program/{programId}/summary")
+    public ResponseEntity<ProgramFeedbackSummary> getProgramFeedbackSummary(@PathVariable Long programId) {
+        return ResponseEntity.ok(trackingStatsService.getProgramFeedbackSummary(programId));
     }
     
     @GetMapping("/employee/{employeeId}/program/{programId}")
     public ResponseEntity<List<Feedback>> getFeedbackByEmployeeAndProgram(
             @PathVariable Long employeeId,
-            @PathVariable Long programId) {
-        return ResponseEntity.ok(feedbackService.getFeedbackByEmployeeAndProgram(employeeId, programId));
+            @PathVariable Long programId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(feedbackService.getFeedbackByEmployeeAndProgram(employeeId, programId, after, limit),
+                limit, Feedback::getId);
     }
     
     @GetMapping("/type/{type}")
     public ResponseEntity<List<Feedback>> getFeedbackByType(
-            @PathVariable Feedback.FeedbackType type) {
-        return ResponseEntity.ok(feedbackService.getFeedbackByType(type));
+            @PathVariable Feedback.FeedbackType type,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(feedbackService.getFeedbackByType(type, after, limit),
+                limit, Feedback::getId);
     }
     
     @GetMapping("/provided-by/{providedBy}")
-    public ResponseEntity<List<Feedback>> getFeedbackByProvidedBy(@PathVariable String providedBy) {
-        return ResponseEntity.ok(feedbackService.getFeedbackByProvidedBy(providedBy));
+    public ResponseEntity<List<Feedback>> getFeedbackByProvidedBy(
+            @PathVariable String providedBy,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(feedbackService.getFeedbackByProvidedBy(providedBy, after, limit),
+                limit, Feedback::getId);
     }
     
     @GetMapping("/minimum-rating/{minRating}")
-    public ResponseEntity<List<Feedback>> getFeedbackByMinimumRating(@PathVariable Integer minRating) {
-        return ResponseEntity.ok(feedbackService.getFeedbackByMinimumRating(minRating));
+    public ResponseEntity<List<Feedback>> getFeedbackByMinimumRating(
+            @PathVariable Integer minRating,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(feedbackService.getFeedbackByMinimumRating(minRating, after, limit),
+                limit, Feedback::getId);
     }
     
     @GetMapping("/date-range")
     public ResponseEntity<List<Feedback>> getFeedbackInDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
-        return ResponseEntity.ok(feedbackService.getFeedbackInDateRange(start, end));
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(feedbackService.getFeedbackInDateRange(start, end, after, limit),
+                limit, Feedback::getId);
     }
 }
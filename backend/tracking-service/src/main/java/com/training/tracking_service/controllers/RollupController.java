@@ -0,0 +1,48 @@
+package com.training.tracking_service.controllers;
+
+import com.training.tracking_service.dto.AttendanceRollup;
+import com.training.tracking_service.dto.CompletionRollup;
+import com.training.tracking_service.dto.FeedbackRollup;
+import com.training.tracking_service.services.RollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tracking/rollups")
+@RequiredArgsConstructor
+public class RollupController {
+    
+    private final RollupService rollupService;
+    
+    @GetMapping("/attendance")
+    public ResponseEntity<List<AttendanceRollup>> getAttendanceRollup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = RollupService.DEFAULT_BUCKET) String bucket,
+            @RequestParam(required = false) Long sessionId) {
+        return ResponseEntity.ok(rollupService.getAttendanceRollup(from, to, bucket, sessionId));
+    }
+    
+    @GetMapping("/completions")
+    public ResponseEntity<List<CompletionRollup>> getCompletionRollup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = RollupService.DEFAULT_BUCKET) String bucket,
+            @RequestParam(required = false) Long programId) {
+        return ResponseEntity.ok(rollupService.getCompletionRollup(from, to, bucket, programId));
+    }
+    
+    @GetMapping("/feedback")
+    public ResponseEntity<List<FeedbackRollup>> getFeedbackRollup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = RollupService.DEFAULT_BUCKET) String bucket,
+            @RequestParam(required = false) Long programId) {
+        return ResponseEntity.ok(rollupService.getFeedbackRollup(from, to, bucket, programId));
+    }
+}
@@ -0,0 +1,20 @@
+package com.training.tracking_service.controllers;
+
+import com.training.tracking_service.services.TrackingStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tracking/stats")
+@RequiredArgsConstructor
+public class TrackingStatsController {
+    
+    private final TrackingStatsService trackingStatsService;
+    
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuildStats() {
+        trackingStatsService.rebuildStats();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.training.tracking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceRollup {
+    
+    private LocalDate bucketStart;
+    private Long sessionId;
+    private long presentCount;
+    private long absentCount;
+    private long totalCount;
+    private Double attendanceRate;
+}
@@ -0,0 +1,24 @@
+package com.training.tracking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRowResult {
+    
+    private int index;
+    private String status; // CREATED, REJECTED
+    private Long id;
+    private String error;
+    
+    public static BatchRowResult created(int index, Long id) {
+        return new BatchRowResult(index, "CREATED", id, null);
+    }
+    
+    public static BatchRowResult rejected(int index, String error) {
+        return new BatchRowResult(index, "REJECTED", null, error);
+    }
+}
@@ -0,0 +1,21 @@
+package com.training.tracking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompletionRollup {
+    
+    private LocalDate bucketStart;
+    private Long programId;
+    private Map<String, Long> countsByStatus;
+    private long totalCount;
+    private long scoreCount;
+    private Double averageScore;
+}
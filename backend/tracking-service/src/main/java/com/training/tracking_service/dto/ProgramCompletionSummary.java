@@ -0,0 +1,19 @@
+package com.training.tracking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgramCompletionSummary {
+    
+    private Long programId;
+    private Map<String, Long> countsByStatus;
+    private long totalCount;
+    private long scoreCount;
+    private Double averageScore;
+}
@@ -0,0 +1,17 @@
+package com.training.tracking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgramFeedbackSummary {
+    
+    private Long programId;
+    private RatingHistogram overall;
+    private Map<String, RatingHistogram> byType;
+}
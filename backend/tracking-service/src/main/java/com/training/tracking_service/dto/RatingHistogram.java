@@ -0,0 +1,32 @@
+package com.training.tracking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingHistogram {
+    
+    private Map<Integer, Long> counts; // Star rating -> number of ratings
+    private long ratingCount;
+    private long unratedCount;
+    private Double averageRating;
+    
+    public static RatingHistogram of(long[] starCounts, long unratedCount) {
+        Map<Integer, Long> counts = new LinkedHashMap<>();
+        long ratingCount = 0;
+        long ratingSum = 0;
+        for (int star = 1; star <= starCounts.length; star++) {
+            counts.put(star, starCounts[star - 1]);
+            ratingCount += starCounts[star - 1];
+            ratingSum += star * starCounts[star - 1];
+        }
+        Double averageRating = ratingCount == 0 ? null : (double) ratingSum / ratingCount;
+        return new RatingHistogram(counts, ratingCount, unratedCount, averageRating);
+    }
+}
@@ -0,0 +1,17 @@
+package com.training.tracking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionAttendanceSummary {
+    
+    private Long sessionId;
+    private long presentCount;
+    private long absentCount;
+    private long totalCount;
+    private Double attendanceRate;
+}
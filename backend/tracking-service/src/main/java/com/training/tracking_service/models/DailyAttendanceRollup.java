@@ -0,0 +1,36 @@
+package com.training.tracking_service.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(DailyAttendanceRollup.Key.class)
+public class DailyAttendanceRollup {
+    
+    @Id
+    private LocalDate bucketDate;
+    
+    @Id
+    private Long sessionId;
+    
+    private long presentCount;
+    private long absentCount;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate bucketDate;
+        private Long sessionId;
+    }
+}
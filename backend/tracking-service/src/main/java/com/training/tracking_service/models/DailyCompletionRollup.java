@@ -0,0 +1,41 @@
+package com.training.tracking_service.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(DailyCompletionRollup.Key.class)
+public class DailyCompletionRollup {
+    
+    @Id
+    private LocalDate bucketDate;
+    
+    @Id
+    private Long programId;
+    
+    @Id
+    private String status; // COMPLETE, INCOMPLETE, FAILED, UNSPECIFIED
+    
+    private long completionCount;
+    private double scoreSum;
+    private long scoreCount;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate bucketDate;
+        private Long programId;
+        private String status;
+    }
+}
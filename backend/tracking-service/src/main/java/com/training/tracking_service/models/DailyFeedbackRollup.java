@@ -0,0 +1,41 @@
+package com.training.tracking_service.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(DailyFeedbackRollup.Key.class)
+public class DailyFeedbackRollup {
+    
+    @Id
+    private LocalDate bucketDate;
+    
+    @Id
+    private Long programId;
+    
+    @Id
+    private String type; // Feedback.FeedbackType name, or UNSPECIFIED
+    
+    private long feedbackCount;
+    private long ratingSum;
+    private long ratingCount; // Ratings on the 1-5 scale only
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate bucketDate;
+        private Long programId;
+        private String type;
+    }
+}
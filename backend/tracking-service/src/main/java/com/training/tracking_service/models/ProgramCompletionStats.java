@@ -0,0 +1,36 @@
+package com.training.tracking_service.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(ProgramCompletionStats.Key.class)
+public class ProgramCompletionStats {
+    
+    @Id
+    private Long programId;
+    
+    @Id
+    private String status; // COMPLETE, INCOMPLETE, FAILED, UNSPECIFIED
+    
+    private long completionCount;
+    private double scoreSum;
+    private long scoreCount;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long programId;
+        private String status;
+    }
+}
@@ -0,0 +1,43 @@
+package com.training.tracking_service.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(ProgramFeedbackStats.Key.class)
+public class ProgramFeedbackStats {
+    
+    @Id
+    private Long programId;
+    
+    @Id
+    private String type; // Feedback.FeedbackType name, or UNSPECIFIED
+    
+    private long oneStarCount;
+    private long twoStarCount;
+    private long threeStarCount;
+    private long fourStarCount;
+    private long fiveStarCount;
+    private long unratedCount; // Missing or outside the 1-5 scale
+    
+    public long[] starCounts() {
+        return new long[] {oneStarCount, twoStarCount, threeStarCount, fourStarCount, fiveStarCount};
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long programId;
+        private String type;
+    }
+}
@@ -0,0 +1,20 @@
+package com.training.tracking_service.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionAttendanceStats {
+    
+    @Id
+    private Long sessionId;
+    
+    private long presentCount;
+    private long absentCount;
+}
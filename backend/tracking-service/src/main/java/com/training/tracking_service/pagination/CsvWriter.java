@@ -0,0 +1,70 @@
+package com.training.tracking_service.pagination;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+// RFC 4180 records. Text cells that a spreadsheet would evaluate as a formula are prefixed with a quote.
+public final class CsvWriter {
+
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    public void writeHeader(List<String> columns) {
+        try {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeText(columns.get(i));
+            }
+            out.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeRow(ResultSet row, int columns) throws SQLException {
+        try {
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) {
+                    out.write(',');
+                }
+                Object value = row.getObject(i);
+                if (value instanceof String text) {
+                    writeText(text);
+                } else if (value instanceof Timestamp timestamp) {
+                    out.write(timestamp.toLocalDateTime().toString());
+                } else if (value != null) {
+                    out.write(value.toString());
+                }
+            }
+            out.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+        boolean formula = !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0;
+        boolean quoted = formula || text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quoted) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        if (formula) {
+            out.write('\'');
+        }
+        out.write(text.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
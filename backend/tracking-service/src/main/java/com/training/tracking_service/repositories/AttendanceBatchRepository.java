@@ -0,0 +1,55 @@
+package com.training.tracking_service.repositories;
+
+import com.training.tracking_service.models.Attendance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+// Hibernate cannot batch IDENTITY inserts, so bulk writes go straight through JDBC
+@Repository
+@RequiredArgsConstructor
+public class AttendanceBatchRepository {
+    
+    private static final String INSERT_SQL = "INSERT INTO attendance "
+            + "(employee_id, session_id, employee_name, session_name, attendance_time, present, notes) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public List<Long> insertAll(List<Attendance> attendances) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Attendance attendance = attendances.get(i);
+                        ps.setLong(1, attendance.getEmployeeId());
+                        ps.setLong(2, attendance.getSessionId());
+                        ps.setString(3, attendance.getEmployeeName());
+                        ps.setString(4, attendance.getSessionName());
+                        ps.setTimestamp(5, Timestamp.valueOf(attendance.getAttendanceTime()));
+                        ps.setBoolean(6, attendance.isPresent());
+                        ps.setString(7, attendance.getNotes());
+                    }
+                    
+                    @Override
+                    public int getBatchSize() {
+                        return attendances.size();
+                    }
+                },
+                keyHolder);
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+}
@@ -1,17 +1,35 @@
 package com.training.tracking_service.repositories;
 
 import com.training.tracking_service.models.Attendance;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
-    List<Attendance> findByEmployeeId(Long employeeId);
-    List<Attendance> findBySessionId(Long sessionId);
-    List<Attendance> findByEmployeeIdAndSessionId(Long employeeId, Long sessionId);
-    List<Attendance> findByEmployeeIdAndAttendanceTimeBetween(Long employeeId, LocalDateTime start, LocalDateTime end);
-    List<Attendance> findBySessionIdAndPresent(Long sessionId, boolean present);
+    List<Attendance> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+    List<Attendance> findByEmployeeIdAndIdGreaterThanOrderByIdAsc(Long employeeId, Long after, Limit limit);
+    List<Attendance> findBySessionIdAndIdGreaterThanOrderByIdAsc(Long sessionId, Long after, Limit limit);
+    List<Attendance> findByEmployeeIdAndSessionIdAndIdGreaterThanOrderByIdAsc(Long employeeId, Long sessionId, Long after, Limit limit);
+    List<Attendance> findByEmployeeIdAndAttendanceTimeBetweenAndIdGreaterThanOrderByIdAsc(Long employeeId, LocalDateTime start, LocalDateTime end, Long after, Limit limit);
+    List<Attendance> findBySessionIdAndPresentAndIdGreaterThanOrderByIdAsc(Long sessionId, boolean present, Long after, Limit limit);
+
+    // SELECT ... FOR UPDATE: updates and deletes hold the row while they move its old values out of the counters
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Attendance> findLockedById(Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select a from Attendance a order by a.id")
+    Stream<Attendance> streamAll();
 }
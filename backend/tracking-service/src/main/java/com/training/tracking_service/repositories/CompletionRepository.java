@@ -1,19 +1,35 @@
 package com.training.tracking_service.repositories;
 
 import com.training.tracking_service.models.Completion;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CompletionRepository extends JpaRepository<Completion, Long> {
-    List<Completion> findByEmployeeId(Long employeeId);
-    List<Completion> findByProgramId(Long programId);
+    List<Completion> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+    List<Completion> findByEmployeeIdAndIdGreaterThanOrderByIdAsc(Long employeeId, Long after, Limit limit);
+    List<Completion> findByProgramIdAndIdGreaterThanOrderByIdAsc(Long programId, Long after, Limit limit);
     Optional<Completion> findByEmployeeIdAndProgramId(Long employeeId, Long programId);
-    List<Completion> findByStatus(String status);
-    List<Completion> findByCompletionDateBetween(LocalDateTime start, LocalDateTime end);
-    List<Completion> findByCompletedBy(String completedBy);
+    List<Completion> findByStatusAndIdGreaterThanOrderByIdAsc(String status, Long after, Limit limit);
+    List<Completion> findByCompletionDateBetweenAndIdGreaterThanOrderByIdAsc(LocalDateTime start, LocalDateTime end, Long after, Limit limit);
+    List<Completion> findByCompletedByAndIdGreaterThanOrderByIdAsc(String completedBy, Long after, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Completion> findLockedById(Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select c from Completion c order by c.id")
+    Stream<Completion> streamAll();
 }
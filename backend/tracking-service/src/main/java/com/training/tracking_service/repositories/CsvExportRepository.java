@@ -0,0 +1,88 @@
+package com.training.tracking_service.repositories;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Full-table exports read through a forward-only, read-only cursor so no row outlives its callback; with
+// useCursorFetch the MySQL driver holds at most fetch-size rows at a time
+@Repository
+public class CsvExportRepository {
+
+    public enum Dataset {
+        ATTENDANCE("attendance", "attendance_time",
+                List.of("id", "employee_id", "session_id", "employee_name", "session_name", "attendance_time",
+                        "present", "notes")),
+        COMPLETIONS("completion", "completion_date",
+                List.of("id", "employee_id", "program_id", "employee_name", "program_name", "completion_date",
+                        "score", "status", "certificate_url", "completed_by")),
+        FEEDBACK("feedback", "feedback_date",
+                List.of("id", "employee_id", "program_id", "employee_name", "program_name", "rating", "comments",
+                        "provided_by", "feedback_date", "type"));
+
+        private final String table;
+        private final String dateColumn;
+        private final List<String> columns;
+
+        Dataset(String table, String dateColumn, List<String> columns) {
+            this.table = table;
+            this.dateColumn = dateColumn;
+            this.columns = columns;
+        }
+
+        public List<String> columns() {
+            return columns;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public CsvExportRepository(JdbcTemplate jdbcTemplate, @Value("${tracking.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    // Filters left null are not applied; owner is the session id for attendance and the program id otherwise
+    public void stream(Dataset dataset, LocalDateTime from, LocalDateTime to, Long ownerId, Long employeeId,
+                       RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", dataset.columns))
+                .append(" FROM ").append(dataset.table).append(" WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (from != null) {
+            sql.append(" AND ").append(dataset.dateColumn).append(" >= ?");
+            params.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND ").append(dataset.dateColumn).append(" <= ?");
+            params.add(Timestamp.valueOf(to));
+        }
+        if (ownerId != null) {
+            sql.append(dataset == Dataset.ATTENDANCE ? " AND session_id = ?" : " AND program_id = ?");
+            params.add(ownerId);
+        }
+        if (employeeId != null) {
+            sql.append(" AND employee_id = ?");
+            params.add(employeeId);
+        }
+        sql.append(" ORDER BY id");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, handler);
+    }
+}
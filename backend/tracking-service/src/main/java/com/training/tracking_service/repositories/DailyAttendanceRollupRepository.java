@@ -0,0 +1,35 @@
+package com.training.tracking_service.repositories;
+
+import com.training.tracking_service.models.DailyAttendanceRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyAttendanceRollupRepository extends JpaRepository<DailyAttendanceRollup, DailyAttendanceRollup.Key> {
+    List<DailyAttendanceRollup> findByBucketDateBetweenOrderByBucketDateAsc(LocalDate from, LocalDate to);
+    List<DailyAttendanceRollup> findBySessionIdAndBucketDateBetweenOrderByBucketDateAsc(Long sessionId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_attendance_rollup (bucket_date, session_id, present_count, absent_count) "
+            + "VALUES (:bucketDate, :sessionId, :presentDelta, :absentDelta) "
+            + "ON DUPLICATE KEY UPDATE present_count = present_count + :presentDelta, "
+            + "absent_count = absent_count + :absentDelta", nativeQuery = true)
+    void increment(LocalDate bucketDate, Long sessionId, long presentDelta, long absentDelta);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_attendance_rollup", nativeQuery = true)
+    void deleteAllRollups();
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_attendance_rollup (bucket_date, session_id, present_count, absent_count) "
+            + "SELECT CAST(attendance_time AS DATE), session_id, "
+            + "SUM(CASE WHEN present THEN 1 ELSE 0 END), SUM(CASE WHEN present THEN 0 ELSE 1 END) "
+            + "FROM attendance WHERE session_id IS NOT NULL AND attendance_time IS NOT NULL "
+            + "GROUP BY CAST(attendance_time AS DATE), session_id", nativeQuery = true)
+    void rebuildFromAttendance();
+}
@@ -0,0 +1,35 @@
+package com.training.tracking_service.repositories;
+
+import com.training.tracking_service.models.DailyCompletionRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyCompletionRollupRepository extends JpaRepository<DailyCompletionRollup, DailyCompletionRollup.Key> {
+    List<DailyCompletionRollup> findByBucketDateBetweenOrderByBucketDateAsc(LocalDate from, LocalDate to);
+    List<DailyCompletionRollup> findByProgramIdAndBucketDateBetweenOrderByBucketDateAsc(Long programId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_completion_rollup (bucket_date, program_id, status, completion_count, score_sum, score_count) "
+            + "VALUES (:bucketDate, :programId, :status, :countDelta, :scoreDelta, :scoreCountDelta) "
+            + "ON DUPLICATE KEY UPDATE completion_count = completion_count + :countDelta, "
+            + "score_sum = score_sum + :scoreDelta, score_count = score_count + :scoreCountDelta", nativeQuery = true)
+    void increment(LocalDate bucketDate, Long programId, String status, long countDelta, double scoreDelta, long scoreCountDelta);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_completion_rollup", nativeQuery = true)
+    void deleteAllRollups();
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_completion_rollup (bucket_date, program_id, status, completion_count, score_sum, score_count) "
+            + "SELECT CAST(completion_date AS DATE), program_id, COALESCE(status, 'UNSPECIFIED'), "
+            + "COUNT(*), COALESCE(SUM(score), 0), COUNT(score) "
+            + "FROM completion WHERE program_id IS NOT NULL AND completion_date IS NOT NULL "
+            + "GROUP BY CAST(completion_date AS DATE), program_id, COALESCE(status, 'UNSPECIFIED')", nativeQuery = true)
+    void rebuildFromCompletions();
+}
@@ -0,0 +1,36 @@
+package com.training.tracking_service.repositories;
+
+import com.training.tracking_service.models.DailyFeedbackRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyFeedbackRollupRepository extends JpaRepository<DailyFeedbackRollup, DailyFeedbackRollup.Key> {
+    List<DailyFeedbackRollup> findByBucketDateBetweenOrderByBucketDateAsc(LocalDate from, LocalDate to);
+    List<DailyFeedbackRollup> findByProgramIdAndBucketDateBetweenOrderByBucketDateAsc(Long programId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_feedback_rollup (bucket_date, program_id, type, feedback_count, rating_sum, rating_count) "
+            + "VALUES (:bucketDate, :programId, :type, :countDelta, :ratingDelta, :ratingCountDelta) "
+            + "ON DUPLICATE KEY UPDATE feedback_count = feedback_count + :countDelta, "
+            + "rating_sum = rating_sum + :ratingDelta, rating_count = rating_count + :ratingCountDelta", nativeQuery = true)
+    void increment(LocalDate bucketDate, Long programId, String type, long countDelta, long ratingDelta, long ratingCountDelta);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_feedback_rollup", nativeQuery = true)
+    void deleteAllRollups();
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_feedback_rollup (bucket_date, program_id, type, feedback_count, rating_sum, rating_count) "
+            + "SELECT CAST(feedback_date AS DATE), program_id, COALESCE(type, 'UNSPECIFIED'), COUNT(*), "
+            + "SUM(CASE WHEN rating BETWEEN 1 AND 5 THEN rating ELSE 0 END), "
+            + "SUM(CASE WHEN rating BETWEEN 1 AND 5 THEN 1 ELSE 0 END) "
+            + "FROM feedback WHERE program_id IS NOT NULL AND feedback_date IS NOT NULL "
+            + "GROUP BY CAST(feedback_date AS DATE), program_id, COALESCE(type, 'UNSPECIFIED')", nativeQuery = true)
+    void rebuildFromFeedback();
+}
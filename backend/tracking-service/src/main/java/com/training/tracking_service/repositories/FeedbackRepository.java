@@ -1,19 +1,36 @@
 package com.training.tracking_service.repositories;
 
 import com.training.tracking_service.models.Feedback;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
-    List<Feedback> findByEmployeeId(Long employeeId);
-    List<Feedback> findByProgramId(Long programId);
-    List<Feedback> findByEmployeeIdAndProgramId(Long employeeId, Long programId);
-    List<Feedback> findByType(Feedback.FeedbackType type);
-    List<Feedback> findByProvidedBy(String providedBy);
-    List<Feedback> findByRatingGreaterThanEqual(Integer minRating);
-    List<Feedback> findByFeedbackDateBetween(LocalDateTime start, LocalDateTime end);
+    List<Feedback> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+    List<Feedback> findByEmployeeIdAndIdGreaterThanOrderByIdAsc(Long employeeId, Long after, Limit limit);
+    List<Feedback> findByProgramIdAndIdGreaterThanOrderByIdAsc(Long programId, Long after, Limit limit);
+    List<Feedback> findByEmployeeIdAndProgramIdAndIdGreaterThanOrderByIdAsc(Long employeeId, Long programId, Long after, Limit limit);
+    List<Feedback> findByTypeAndIdGreaterThanOrderByIdAsc(Feedback.FeedbackType type, Long after, Limit limit);
+    List<Feedback> findByProvidedByAndIdGreaterThanOrderByIdAsc(String providedBy, Long after, Limit limit);
+    List<Feedback> findByRatingGreaterThanEqualAndIdGreaterThanOrderByIdAsc(Integer minRating, Long after, Limit limit);
+    List<Feedback> findByFeedbackDateBetweenAndIdGreaterThanOrderByIdAsc(LocalDateTime start, LocalDateTime end, Long after, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Feedback> findLockedById(Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select f from Feedback f order by f.id")
+    Stream<Feedback> streamAll();
 }
@@ -0,0 +1,32 @@
+package com.training.tracking_service.repositories;
+
+import com.training.tracking_service.models.ProgramCompletionStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProgramCompletionStatsRepository extends JpaRepository<ProgramCompletionStats, ProgramCompletionStats.Key> {
+    List<ProgramCompletionStats> findByProgramId(Long programId);
+
+    @Modifying
+    @Query(value = "INSERT INTO program_completion_stats (program_id, status, completion_count, score_sum, score_count) "
+            + "VALUES (:programId, :status, :countDelta, :scoreDelta, :scoreCountDelta) "
+            + "ON DUPLICATE KEY UPDATE completion_count = completion_count + :countDelta, "
+            + "score_sum = score_sum + :scoreDelta, score_count = score_count + :scoreCountDelta", nativeQuery = true)
+    void increment(Long programId, String status, long countDelta, double scoreDelta, long scoreCountDelta);
+
+    @Modifying
+    @Query(value = "DELETE FROM program_completion_stats", nativeQuery = true)
+    void deleteAllStats();
+
+    @Modifying
+    @Query(value = "INSERT INTO program_completion_stats (program_id, status, completion_count, score_sum, score_count) "
+            + "SELECT program_id, COALESCE(status, 'UNSPECIFIED'), COUNT(*), COALESCE(SUM(score), 0), COUNT(score) "
+            + "FROM completion WHERE program_id IS NOT NULL "
+            + "GROUP BY program_id, COALESCE(status, 'UNSPECIFIED')", nativeQuery = true)
+    void rebuildFromCompletions();
+}
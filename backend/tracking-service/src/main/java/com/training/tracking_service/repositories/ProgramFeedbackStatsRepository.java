@@ -0,0 +1,40 @@
+package com.training.tracking_service.repositories;
+
+import com.training.tracking_service.models.ProgramFeedbackStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProgramFeedbackStatsRepository extends JpaRepository<ProgramFeedbackStats, ProgramFeedbackStats.Key> {
+    List<ProgramFeedbackStats> findByProgramId(Long programId);
+
+    @Modifying
+    @Query(value = "INSERT INTO program_feedback_stats (program_id, type, one_star_count, two_star_count, "
+            + "three_star_count, four_star_count, five_star_count, unrated_count) "
+            + "VALUES (:programId, :type, :one, :two, :three, :four, :five, :unrated) "
+            + "ON DUPLICATE KEY UPDATE one_star_count = one_star_count + :one, "
+            + "two_star_count = two_star_count + :two, three_star_count = three_star_count + :three, "
+            + "four_star_count = four_star_count + :four, five_star_count = five_star_count + :five, "
+            + "unrated_count = unrated_count + :unrated", nativeQuery = true)
+    void increment(Long programId, String type, long one, long two, long three, long four, long five, long unrated);
+
+    @Modifying
+    @Query(value = "DELETE FROM program_feedback_stats", nativeQuery = true)
+    void deleteAllStats();
+
+    @Modifying
+    @Query(value = "INSERT INTO program_feedback_stats (program_id, type, one_star_count, two_star_count, "
+            + "three_star_count, four_star_count, five_star_count, unrated_count) "
+            + "SELECT program_id, COALESCE(type, 'UNSPECIFIED'), "
+            + "SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN rating BETWEEN 1 AND 5 THEN 0 ELSE 1 END) "
+            + "FROM feedback WHERE program_id IS NOT NULL "
+            + "GROUP BY program_id, COALESCE(type, 'UNSPECIFIED')", nativeQuery = true)
+    void rebuildFromFeedback();
+}
@@ -0,0 +1,28 @@
+package com.training.tracking_service.repositories;
+
+import com.training.tracking_service.models.SessionAttendanceStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SessionAttendanceStatsRepository extends JpaRepository<SessionAttendanceStats, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO session_attendance_stats (session_id, present_count, absent_count) "
+            + "VALUES (:sessionId, :presentDelta, :absentDelta) "
+            + "ON DUPLICATE KEY UPDATE present_count = present_count + :presentDelta, "
+            + "absent_count = absent_count + :absentDelta", nativeQuery = true)
+    void increment(Long sessionId, long presentDelta, long absentDelta);
+
+    @Modifying
+    @Query(value = "DELETE FROM session_attendance_stats", nativeQuery = true)
+    void deleteAllStats();
+
+    @Modifying
+    @Query(value = "INSERT INTO session_attendance_stats (session_id, present_count, absent_count) "
+            + "SELECT session_id, SUM(CASE WHEN present THEN 1 ELSE 0 END), SUM(CASE WHEN present THEN 0 ELSE 1 END) "
+            + "FROM attendance WHERE session_id IS NOT NULL GROUP BY session_id", nativeQuery = true)
+    void rebuildFromAttendance();
+}
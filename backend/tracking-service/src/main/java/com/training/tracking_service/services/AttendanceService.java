@@ -1,25 +1,62 @@
 package com.training.tracking_service.services;
 
+import com.training.tracking_service.dto.BatchRowResult;
 import com.training.tracking_service.models.Attendance;
+import com.training.tracking_service.pagination.CursorPage;
+import com.training.tracking_service.repositories.AttendanceBatchRepository;
 import com.training.tracking_service.repositories.AttendanceRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AttendanceService {
     
     private final AttendanceRepository attendanceRepository;
+    private final AttendanceBatchRepository attendanceBatchRepository;
+    private final TrackingStatsService trackingStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
     
-    public List<Attendance> getAllAttendances() {
-        return attendanceRepository.findAll();
+    @Value("${tracking.attendance.batch.chunk-size:500}")
+    private int batchChunkSize;
+    
+    @Value("${tracking.attendance.batch.max-rows:10000}")
+    private int batchMaxRows;
+    
+    @Transactional(readOnly = true)
+    public List<Attendance> getAllAttendances(Long after, int limit) {
+        return attendanceRepository.findByIdGreaterThanOrderByIdAsc(CursorPage.after(after), CursorPage.limit(limit));
+    }
+    
+    @Transactional(readOnly = true)
+    public void streamAllAttendances(Consumer<Attendance> sink) {
+        try (Stream<Attendance> attendances = attendanceRepository.streamAll()) {
+            attendances.forEach(attendance -> {
+                sink.accept(attendance);
+                entityManager.detach(attendance);
+            });
+        }
     }
     
+    @Transactional(readOnly = true)
     public Optional<Attendance> getAttendanceById(Long id) {
         return attendanceRepository.findById(id);
     }
@@ -27,40 +64,119 @@ public class AttendanceService {
     @Transactional
     public Attendance recordAttendance(Attendance attendance) {
         attendance.setAttendanceTime(LocalDateTime.now());
-        return attendanceRepository.save(attendance);
+        Attendance savedAttendance = attendanceRepository.save(attendance);
+        trackingStatsService.attendanceAdded(savedAttendance);
+        return savedAttendance;
+    }
+    
+    public List<BatchRowResult> recordAttendanceBatch(List<Attendance> attendances) {
+        if (attendances.size() > batchMaxRows) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Attendance batch exceeds " + batchMaxRows + " rows");
+        }
+        
+        BatchRowResult[] results = new BatchRowResult[attendances.size()];
+        List<Integer> accepted = new ArrayList<>(attendances.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < attendances.size(); i++) {
+            Attendance attendance = attendances.get(i);
+            if (attendance == null || attendance.getEmployeeId() == null || attendance.getSessionId() == null) {
+                results[i] = BatchRowResult.rejected(i, "employeeId and sessionId are required");
+            } else {
+                attendance.setAttendanceTime(now);
+                accepted.add(i);
+            }
+        }
+        
+        // Each chunk commits on its own; a failed chunk is retried row by row so only the offending rows are rejected
+        for (int from = 0; from < accepted.size(); from += batchChunkSize) {
+            List<Integer> chunk = accepted.subList(from, Math.min(from + batchChunkSize, accepted.size()));
+            try {
+                List<Long> ids = insertChunk(chunk.stream().map(attendances::get).toList());
+                for (int j = 0; j < chunk.size(); j++) {
+                    results[chunk.get(j)] = BatchRowResult.created(chunk.get(j), j < ids.size() ? ids.get(j) : null);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Attendance batch rows {}-{} failed, retrying them one by one: {}",
+                        chunk.get(0), chunk.get(chunk.size() - 1), e.getMostSpecificCause().getMessage());
+                for (Integer index : chunk) {
+                    results[index] = insertRow(index, attendances.get(index));
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+    
+    private List<Long> insertChunk(List<Attendance> rows) {
+        return transactionTemplate.execute(status -> {
+            List<Long> insertedIds = attendanceBatchRepository.insertAll(rows);
+            trackingStatsService.attendancesAdded(rows);
+            return insertedIds;
+        });
+    }
+    
+    // The database error stays in the log; it can carry SQL and constraint names the caller should not see
+    private BatchRowResult insertRow(int index, Attendance attendance) {
+        try {
+            List<Long> ids = insertChunk(List.of(attendance));
+            return BatchRowResult.created(index, ids.isEmpty() ? null : ids.get(0));
+        } catch (DataAccessException e) {
+            log.warn("Attendance batch row {} rejected: {}", index, e.getMostSpecificCause().getMessage());
+            return BatchRowResult.rejected(index, "Row could not be saved");
+        }
     }
     
     @Transactional
     public Attendance updateAttendance(Long id, Attendance updatedAttendance) {
+        attendanceRepository.findLockedById(id).ifPresent(trackingStatsService::attendanceRemoved);
         updatedAttendance.setId(id);
-        return attendanceRepository.save(updatedAttendance);
+        Attendance savedAttendance = attendanceRepository.save(updatedAttendance);
+        trackingStatsService.attendanceAdded(savedAttendance);
+        return savedAttendance;
     }
     
+    @Transactional
     public void deleteAttendance(Long id) {
-        attendanceRepository.deleteById(id);
+        attendanceRepository.findLockedById(id).ifPresent(attendance -> {
+            trackingStatsService.attendanceRemoved(attendance);
+            attendanceRepository.delete(attendance);
+        });
     }
     
-    public List<Attendance> getAttendancesByEmployeeId(Long employeeId) {
-        return attendanceRepository.findByEmployeeId(employeeId);
+    @Transactional(readOnly = true)
+    public List<Attendance> getAttendancesByEmployeeId(Long employeeId, Long after, int limit) {
+        return attendanceRepository.findByEmployeeIdAndIdGreaterThanOrderByIdAsc(
+                employeeId, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Attendance> getAttendancesBySessionId(Long sessionId) {
-        return attendanceRepository.findBySessionId(sessionId);
+    @Transactional(readOnly = true)
+    public List<Attendance> getAttendancesBySessionId(Long sessionId, Long after, int limit) {
+        return attendanceRepository.findBySessionIdAndIdGreaterThanOrderByIdAsc(
+                sessionId, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Attendance> getAttendanceByEmployeeAndSession(Long employeeId, Long sessionId) {
-        return attendanceRepository.findByEmployeeIdAndSessionId(employeeId, sessionId);
+    @Transactional(readOnly = true)
+    public List<Attendance> getAttendanceByEmployeeAndSession(Long employeeId, Long sessionId, Long after, int limit) {
+        return attendanceRepository.findByEmployeeIdAndSessionIdAndIdGreaterThanOrderByIdAsc(
+                employeeId, sessionId, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Attendance> getAttendancesByEmployeeInDateRange(Long employeeId, LocalDateTime start, LocalDateTime end) {
-        return attendanceRepository.findByEmployeeIdAndAttendanceTimeBetween(employeeId, start, end);
+    @Transactional(readOnly = true)
+    public List<Attendance> getAttendancesByEmployeeInDateRange(Long employeeId, LocalDateTime start, LocalDateTime end,
+                                                                Long after, int limit) {
+        return attendanceRepository.findByEmployeeIdAndAttendanceTimeBetweenAndIdGreaterThanOrderByIdAsc(
+                employeeId, start, end, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Attendance> getPresentAttendeesBySessionId(Long sessionId) {
-        return attendanceRepository.findBySessionIdAndPresent(sessionId, true);
+    @Transactional(readOnly = true)
+    public List<Attendance> getPresentAttendeesBySessionId(Long sessionId, Long after, int limit) {
+        return attendanceRepository.findBySessionIdAndPresentAndIdGreaterThanOrderByIdAsc(
+                sessionId, true, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Attendance> getAbsentAttendeesBySessionId(Long sessionId) {
-        return attendanceRepository.findBySessionIdAndPresent(sessionId, false);
+    @Transactional(readOnly = true)
+    public List<Attendance> getAbsentAttendeesBySessionId(Long sessionId, Long after, int limit) {
+        return attendanceRepository.findBySessionIdAndPresentAndIdGreaterThanOrderByIdAsc(
+                sessionId, false, CursorPage.after(after), CursorPage.limit(limit));
     }
 }
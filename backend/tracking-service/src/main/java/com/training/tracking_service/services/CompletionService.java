@@ -1,25 +1,46 @@
 package com.training.tracking_service.services;
 
 import com.training.tracking_service.models.Completion;
+import com.training.tracking_service.pagination.CursorPage;
 import com.training.tracking_service.repositories.CompletionRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class CompletionService {
     
     private final CompletionRepository completionRepository;
+    private final TrackingStatsService trackingStatsService;
+    private final EntityManager entityManager;
     
-    public List<Completion> getAllCompletions() {
-        return completionRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<Completion> getAllCompletions(Long after, int limit) {
+        return completionRepository.findByIdGreaterThanOrderByIdAsc(CursorPage.after(after), CursorPage.limit(limit));
     }
     
+    @Transactional(readOnly = true)
+    public void streamAllCompletions(Consumer<Completion> sink) {
+        try (Stream<Completion> completions = completionRepository.streamAll()) {
+            completions.forEach(completion -> {
+                sink.accept(completion);
+                entityManager.detach(completion);
+            });
+        }
+    }
+    
+    @Transactional(readOnly = true)
     public Optional<Completion> getCompletionById(Long id) {
         return completionRepository.findById(id);
     }
@@ -27,40 +48,71 @@ public class CompletionService {
     @Transactional
     public Completion recordCompletion(Completion completion) {
         completion.setCompletionDate(LocalDateTime.now());
-        return completionRepository.save(completion);
+        Completion savedCompletion = save(completion);
+        trackingStatsService.completionAdded(savedCompletion);
+        return savedCompletion;
     }
     
     @Transactional
     public Completion updateCompletion(Long id, Completion updatedCompletion) {
+        completionRepository.findLockedById(id).ifPresent(trackingStatsService::completionRemoved);
         updatedCompletion.setId(id);
-        return completionRepository.save(updatedCompletion);
+        Completion savedCompletion = save(updatedCompletion);
+        trackingStatsService.completionAdded(savedCompletion);
+        return savedCompletion;
     }
     
+    // Flushed here so a second completion for the same employee and program (uk_completion_employee_program)
+    // is reported as a conflict instead of failing the commit
+    private Completion save(Completion completion) {
+        try {
+            return completionRepository.saveAndFlush(completion);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Employee " + completion.getEmployeeId()
+                    + " already has a completion for program " + completion.getProgramId());
+        }
+    }
+    
+    @Transactional
     public void deleteCompletion(Long id) {
-        completionRepository.deleteById(id);
+        completionRepository.findLockedById(id).ifPresent(completion -> {
+            trackingStatsService.completionRemoved(completion);
+            completionRepository.delete(completion);
+        });
     }
     
-    public List<Completion> getCompletionsByEmployeeId(Long employeeId) {
-        return completionRepository.findByEmployeeId(employeeId);
+    @Transactional(readOnly = true)
+    public List<Completion> getCompletionsByEmployeeId(Long employeeId, Long after, int limit) {
+        return completionRepository.findByEmployeeIdAndIdGreaterThanOrderByIdAsc(
+                employeeId, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Completion> getCompletionsByProgramId(Long programId) {
-        return completionRepository.findByProgramId(programId);
+    @Transactional(readOnly = true)
+    public List<Completion> getCompletionsByProgramId(Long programId, Long after, int limit) {
+        return completionRepository.findByProgramIdAndIdGreaterThanOrderByIdAsc(
+                programId, CursorPage.after(after), CursorPage.limit(limit));
     }
     
+    @Transactional(readOnly = true)
     public Optional<Completion> getCompletionByEmployeeAndProgram(Long employeeId, Long programId) {
         return completionRepository.findByEmployeeIdAndProgramId(employeeId, programId);
     }
     
-    public List<Completion> getCompletionsByStatus(String status) {
-        return completionRepository.findByStatus(status);
+    @Transactional(readOnly = true)
+    public List<Completion> getCompletionsByStatus(String status, Long after, int limit) {
+        return completionRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                status, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Completion> getCompletionsInDateRange(LocalDateTime start, LocalDateTime end) {
-        return completionRepository.findByCompletionDateBetween(start, end);
+    @Transactional(readOnly = true)
+    public List<Completion> getCompletionsInDateRange(LocalDateTime start, LocalDateTime end, Long after, int limit) {
+        return completionRepository.findByCompletionDateBetweenAndIdGreaterThanOrderByIdAsc(
+                start, end, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Completion> getCompletionsByCompletedBy(String completedBy) {
-        return completionRepository.findByCompletedBy(completedBy);
+    @Transactional(readOnly = true)
+    public List<Completion> getCompletionsByCompletedBy(String completedBy, Long after, int limit) {
+        return completionRepository.findByCompletedByAndIdGreaterThanOrderByIdAsc(
+                completedBy, CursorPage.after(after), CursorPage.limit(limit));
     }
 }
@@ -0,0 +1,39 @@
+package com.training.tracking_service.services;
+
+import com.training.tracking_service.pagination.CsvWriter;
+import com.training.tracking_service.repositories.CsvExportRepository;
+import com.training.tracking_service.repositories.CsvExportRepository.Dataset;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class CsvExportService {
+    
+    private final CsvExportRepository csvExportRepository;
+    
+    @Transactional(readOnly = true)
+    public void exportAttendance(LocalDateTime from, LocalDateTime to, Long sessionId, Long employeeId, CsvWriter csv) {
+        export(Dataset.ATTENDANCE, from, to, sessionId, employeeId, csv);
+    }
+    
+    @Transactional(readOnly = true)
+    public void exportCompletions(LocalDateTime from, LocalDateTime to, Long programId, Long employeeId, CsvWriter csv) {
+        export(Dataset.COMPLETIONS, from, to, programId, employeeId, csv);
+    }
+    
+    @Transactional(readOnly = true)
+    public void exportFeedback(LocalDateTime from, LocalDateTime to, Long programId, Long employeeId, CsvWriter csv) {
+        export(Dataset.FEEDBACK, from, to, programId, employeeId, csv);
+    }
+    
+    private void export(Dataset dataset, LocalDateTime from, LocalDateTime to, Long ownerId, Long employeeId,
+                        CsvWriter csv) {
+        int columns = dataset.columns().size();
+        csv.writeHeader(dataset.columns());
+        csvExportRepository.stream(dataset, from, to, ownerId, employeeId, row -> csv.writeRow(row, columns));
+    }
+}
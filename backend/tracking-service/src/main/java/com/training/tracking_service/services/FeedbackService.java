@@ -1,7 +1,9 @@
 package com.training.tracking_service.services;
 
 import com.training.tracking_service.models.Feedback;
+import com.training.tracking_service.pagination.CursorPage;
 import com.training.tracking_service.repositories.FeedbackRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,17 +11,33 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class FeedbackService {
     
     private final FeedbackRepository feedbackRepository;
+    private final TrackingStatsService trackingStatsService;
+    private final EntityManager entityManager;
     
-    public List<Feedback> getAllFeedback() {
-        return feedbackRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<Feedback> getAllFeedback(Long after, int limit) {
+        return feedbackRepository.findByIdGreaterThanOrderByIdAsc(CursorPage.after(after), CursorPage.limit(limit));
     }
     
+    @Transactional(readOnly = true)
+    public void streamAllFeedback(Consumer<Feedback> sink) {
+        try (Stream<Feedback> feedback = feedbackRepository.streamAll()) {
+            feedback.forEach(entry -> {
+                sink.accept(entry);
+                entityManager.detach(entry);
+            });
+        }
+    }
+    
+    @Transactional(readOnly = true)
     public Optional<Feedback> getFeedbackById(Long id) {
         return feedbackRepository.findById(id);
     }
@@ -27,44 +45,67 @@ public class FeedbackService {
     @Transactional
     public Feedback recordFeedback(Feedback feedback) {
         feedback.setFeedbackDate(LocalDateTime.now());
-        return feedbackRepository.save(feedback);
+        Feedback savedFeedback = feedbackRepository.save(feedback);
+        trackingStatsService.feedbackAdded(savedFeedback);
+        return savedFeedback;
     }
     
     @Transactional
     public Feedback updateFeedback(Long id, Feedback updatedFeedback) {
+        feedbackRepository.findLockedById(id).ifPresent(trackingStatsService::feedbackRemoved);
         updatedFeedback.setId(id);
-        return feedbackRepository.save(updatedFeedback);
+        Feedback savedFeedback = feedbackRepository.save(updatedFeedback);
+        trackingStatsService.feedbackAdded(savedFeedback);
+        return savedFeedback;
     }
     
+    @Transactional
     public void deleteFeedback(Long id) {
-        feedbackRepository.deleteById(id);
+        feedbackRepository.findLockedById(id).ifPresent(feedback -> {
+            trackingStatsService.feedbackRemoved(feedback);
+            feedbackRepository.delete(feedback);
+        });
     }
     
-    public List<Feedback> getFeedbackByEmployeeId(Long employeeId) {
-        return feedbackRepository.findByEmployeeId(employeeId);
+    @Transactional(readOnly = true)
+    public List<Feedback> getFeedbackByEmployeeId(Long employeeId, Long after, int limit) {
+        return feedbackRepository.findByEmployeeIdAndIdGreaterThanOrderByIdAsc(
+                employeeId, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Feedback> getFeedbackByProgramId(Long programId) {
-        return feedbackRepository.findByProgramId(programId);
+    @Transactional(readOnly = true)
+    public List<Feedback> getFeedbackByProgramId(Long programId, Long after, int limit) {
+        return feedbackRepository.findByProgramIdAndIdGreaterThanOrderByIdAsc(
+                programId, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Feedback> getFeedbackByEmployeeAndProgram(Long employeeId, Long programId) {
-        return feedbackRepository.findByEmployeeIdAndProgramId(employeeId, programId);
+    @Transactional(readOnly = true)
+    public List<Feedback> getFeedbackByEmployeeAndProgram(Long employeeId, Long programId, Long after, int limit) {
+        return feedbackRepository.findByEmployeeIdAndProgramIdAndIdGreaterThanOrderByIdAsc(
+                employeeId, programId, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Feedback> getFeedbackByType(Feedback.FeedbackType type) {
-        return feedbackRepository.findByType(type);
+    @Transactional(readOnly = true)
+    public List<Feedback> getFeedbackByType(Feedback.FeedbackType type, Long after, int limit) {
+        return feedbackRepository.findByTypeAndIdGreaterThanOrderByIdAsc(
+                type, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Feedback> getFeedbackByProvidedBy(String providedBy) {
-        return feedbackRepository.findByProvidedBy(providedBy);
+    @Transactional(readOnly = true)
+    public List<Feedback> getFeedbackByProvidedBy(String providedBy, Long after, int limit) {
+        return feedbackRepository.findByProvidedByAndIdGreaterThanOrderByIdAsc(
+                providedBy, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Feedback> getFeedbackByMinimumRating(Integer minRating) {
-        return feedbackRepository.findByRatingGreaterThanEqual(minRating);
+    @Transactional(readOnly = true)
+    public List<Feedback> getFeedbackByMinimumRating(Integer minRating, Long after, int limit) {
+        return feedbackRepository.findByRatingGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                minRating, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<Feedback> getFeedbackInDateRange(LocalDateTime start, LocalDateTime end) {
-        return feedbackRepository.findByFeedbackDateBetween(start, end);
+    @Transactional(readOnly = true)
+    public List<Feedback> getFeedbackInDateRange(LocalDateTime start, LocalDateTime end, Long after, int limit) {
+        return feedbackRepository.findByFeedbackDateBetweenAndIdGreaterThanOrderByIdAsc(
+                start, end, CursorPage.after(after), CursorPage.limit(limit));
     }
 }
@@ -0,0 +1,160 @@
+package com.training.tracking_service.services;
+
+import com.training.tracking_service.dto.AttendanceRollup;
+import com.training.tracking_service.dto.CompletionRollup;
+import com.training.tracking_service.dto.FeedbackRollup;
+import com.training.tracking_service.models.DailyAttendanceRollup;
+import com.training.tracking_service.models.DailyCompletionRollup;
+import com.training.tracking_service.models.DailyFeedbackRollup;
+import com.training.tracking_service.repositories.DailyAttendanceRollupRepository;
+import com.training.tracking_service.repositories.DailyCompletionRollupRepository;
+import com.training.tracking_service.repositories.DailyFeedbackRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Reads the daily rollup tables and sums them into day, week (ISO, starting Monday) or month buckets, so a report
+// costs one row per day per session or program regardless of how many base rows fall in the range
+@Service
+@RequiredArgsConstructor
+public class RollupService {
+
+    public static final String DEFAULT_BUCKET = "MONTH";
+    private static final long MAX_RANGE_DAYS = 3 * 366;
+    private static final Comparator<BucketKey> BUCKET_ORDER =
+            Comparator.comparing(BucketKey::start).thenComparing(BucketKey::id);
+
+    private final DailyAttendanceRollupRepository dailyAttendanceRollupRepository;
+    private final DailyCompletionRollupRepository dailyCompletionRollupRepository;
+    private final DailyFeedbackRollupRepository dailyFeedbackRollupRepository;
+
+    @Transactional(readOnly = true)
+    public List<AttendanceRollup> getAttendanceRollup(LocalDate from, LocalDate to, String bucket, Long sessionId) {
+        Bucket size = Bucket.of(bucket);
+        checkRange(from, to);
+        List<DailyAttendanceRollup> days = sessionId == null
+                ? dailyAttendanceRollupRepository.findByBucketDateBetweenOrderByBucketDateAsc(from, to)
+                : dailyAttendanceRollupRepository.findBySessionIdAndBucketDateBetweenOrderByBucketDateAsc(sessionId, from, to);
+
+        Map<BucketKey, long[]> buckets = new TreeMap<>(BUCKET_ORDER);
+        for (DailyAttendanceRollup day : days) {
+            long[] counts = buckets.computeIfAbsent(
+                    new BucketKey(size.start(day.getBucketDate()), day.getSessionId()), key -> new long[2]);
+            counts[0] += day.getPresentCount();
+            counts[1] += day.getAbsentCount();
+        }
+
+        List<AttendanceRollup> rollup = new ArrayList<>(buckets.size());
+        buckets.forEach((key, counts) -> {
+            long total = counts[0] + counts[1];
+            Double rate = total == 0 ? null : (double) counts[0] / total;
+            rollup.add(new AttendanceRollup(key.start(), key.id(), counts[0], counts[1], total, rate));
+        });
+        return rollup;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CompletionRollup> getCompletionRollup(LocalDate from, LocalDate to, String bucket, Long programId) {
+        Bucket size = Bucket.of(bucket);
+        checkRange(from, to);
+        List<DailyCompletionRollup> days = programId == null
+                ? dailyCompletionRollupRepository.findByBucketDateBetweenOrderByBucketDateAsc(from, to)
+                : dailyCompletionRollupRepository.findByProgramIdAndBucketDateBetweenOrderByBucketDateAsc(programId, from, to);
+
+        Map<BucketKey, Totals> buckets = new TreeMap<>(BUCKET_ORDER);
+        for (DailyCompletionRollup day : days) {
+            buckets.computeIfAbsent(new BucketKey(size.start(day.getBucketDate()), day.getProgramId()), key -> new Totals())
+                    .add(day.getStatus(), day.getCompletionCount(), day.getScoreSum(), day.getScoreCount());
+        }
+
+        List<CompletionRollup> rollup = new ArrayList<>(buckets.size());
+        buckets.forEach((key, totals) -> rollup.add(new CompletionRollup(key.start(), key.id(),
+                totals.countsByKey, totals.count, totals.valueCount, totals.average())));
+        return rollup;
+    }
+
+    @Transactional(readOnly = true)
+    public List<FeedbackRollup> getFeedbackRollup(LocalDate from, LocalDate to, String bucket, Long programId) {
+        Bucket size = Bucket.of(bucket);
+        checkRange(from, to);
+        List<DailyFeedbackRollup> days = programId == null
+                ? dailyFeedbackRollupRepository.findByBucketDateBetweenOrderByBucketDateAsc(from, to)
+                : dailyFeedbackRollupRepository.findByProgramIdAndBucketDateBetweenOrderByBucketDateAsc(programId, from, to);
+
+        Map<BucketKey, Totals> buckets = new TreeMap<>(BUCKET_ORDER);
+        for (DailyFeedbackRollup day : days) {
+            buckets.computeIfAbsent(new BucketKey(size.start(day.getBucketDate()), day.getProgramId()), key -> new Totals())
+                    .add(day.getType(), day.getFeedbackCount(), day.getRatingSum(), day.getRatingCount());
+        }
+
+        List<FeedbackRollup> rollup = new ArrayList<>(buckets.size());
+        buckets.forEach((key, totals) -> rollup.add(new FeedbackRollup(key.start(), key.id(),
+                totals.countsByKey, totals.count, totals.valueCount, totals.average())));
+        return rollup;
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Rollup range starts after it ends");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Rollup range exceeds " + MAX_RANGE_DAYS + " days");
+        }
+    }
+
+    public enum Bucket {
+        DAY, WEEK, MONTH;
+
+        LocalDate start(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+            };
+        }
+
+        static Bucket of(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Bucket must be DAY, WEEK or MONTH");
+            }
+        }
+    }
+
+    private record BucketKey(LocalDate start, Long id) {}
+
+    // Row counts by status or type, plus the sum and count of the scores or ratings behind the average
+    private static final class Totals {
+        private final Map<String, Long> countsByKey = new LinkedHashMap<>();
+        private long count;
+        private double valueSum;
+        private long valueCount;
+
+        private void add(String key, long rows, double sum, long values) {
+            countsByKey.merge(key, rows, Long::sum);
+            count += rows;
+            valueSum += sum;
+            valueCount += values;
+        }
+
+        private Double average() {
+            return valueCount == 0 ? null : valueSum / valueCount;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.training.tracking_service.services;
+
+import com.training.tracking_service.dto.ProgramCompletionSummary;
+import com.training.tracking_service.dto.ProgramFeedbackSummary;
+import com.training.tracking_service.dto.RatingHistogram;
+import com.training.tracking_service.dto.SessionAttendanceSummary;
+import com.training.tracking_service.models.Attendance;
+import com.training.tracking_service.models.Completion;
+import com.training.tracking_service.models.Feedback;
+import com.training.tracking_service.models.ProgramCompletionStats;
+import com.training.tracking_service.models.ProgramFeedbackStats;
+import com.training.tracking_service.repositories.DailyAttendanceRollupRepository;
+import com.training.tracking_service.repositories.DailyCompletionRollupRepository;
+import com.training.tracking_service.repositories.DailyFeedbackRollupRepository;
+import com.training.tracking_service.repositories.ProgramCompletionStatsRepository;
+import com.training.tracking_service.repositories.ProgramFeedbackStatsRepository;
+import com.training.tracking_service.repositories.SessionAttendanceStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Counters and daily rollups are adjusted with atomic upserts inside the caller's transaction, so they commit or
+// roll back with the row. Rows without a date are counted in the totals but not in any daily rollup.
+@Service
+@RequiredArgsConstructor
+public class TrackingStatsService {
+    
+    private static final String UNSPECIFIED = "UNSPECIFIED";
+    
+    private final SessionAttendanceStatsRepository sessionAttendanceStatsRepository;
+    private final ProgramCompletionStatsRepository programCompletionStatsRepository;
+    private final ProgramFeedbackStatsRepository programFeedbackStatsRepository;
+    private final DailyAttendanceRollupRepository dailyAttendanceRollupRepository;
+    private final DailyCompletionRollupRepository dailyCompletionRollupRepository;
+    private final DailyFeedbackRollupRepository dailyFeedbackRollupRepository;
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void attendanceAdded(Attendance attendance) {
+        adjustAttendance(attendance, 1);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void attendanceRemoved(Attendance attendance) {
+        adjustAttendance(attendance, -1);
+    }
+    
+    // One upsert per session rather than per row keeps bulk ingestion batched
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void attendancesAdded(List<Attendance> attendances) {
+        Map<Long, long[]> deltas = new HashMap<>();
+        Map<SessionDay, long[]> dailyDeltas = new HashMap<>();
+        for (Attendance attendance : attendances) {
+            if (attendance.getSessionId() != null) {
+                int column = attendance.isPresent() ? 0 : 1;
+                deltas.computeIfAbsent(attendance.getSessionId(), sessionId -> new long[2])[column]++;
+                if (attendance.getAttendanceTime() != null) {
+                    SessionDay day = new SessionDay(attendance.getAttendanceTime().toLocalDate(), attendance.getSessionId());
+                    dailyDeltas.computeIfAbsent(day, key -> new long[2])[column]++;
+                }
+            }
+        }
+        deltas.forEach((sessionId, counts) -> sessionAttendanceStatsRepository.increment(sessionId, counts[0], counts[1]));
+        dailyDeltas.forEach((day, counts) ->
+                dailyAttendanceRollupRepository.increment(day.date(), day.sessionId(), counts[0], counts[1]));
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void completionAdded(Completion completion) {
+        adjustCompletion(completion, 1);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void completionRemoved(Completion completion) {
+        adjustCompletion(completion, -1);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void feedbackAdded(Feedback feedback) {
+        adjustFeedback(feedback, 1);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void feedbackRemoved(Feedback feedback) {
+        adjustFeedback(feedback, -1);
+    }
+    
+    @Transactional(readOnly = true)
+    public SessionAttendanceSummary getSessionAttendanceSummary(Long sessionId) {
+        return sessionAttendanceStatsRepository.findById(sessionId)
+                .map(stats -> {
+                    long total = stats.getPresentCount() + stats.getAbsentCount();
+                    Double rate = total == 0 ? null : (double) stats.getPresentCount() / total;
+                    return new SessionAttendanceSummary(sessionId, stats.getPresentCount(), stats.getAbsentCount(), total, rate);
+                })
+                .orElseGet(() -> new SessionAttendanceSummary(sessionId, 0, 0, 0, null));
+    }
+    
+    @Transactional(readOnly = true)
+    public ProgramCompletionSummary getProgramCompletionSummary(Long programId) {
+        Map<String, Long> countsByStatus = new LinkedHashMap<>();
+        long total = 0;
+        long scoreCount = 0;
+        double scoreSum = 0;
+        for (ProgramCompletionStats stats : programCompletionStatsRepository.findByProgramId(programId)) {
+            countsByStatus.put(stats.getStatus(), stats.getCompletionCount());
+            total += stats.getCompletionCount();
+            scoreCount += stats.getScoreCount();
+            scoreSum += stats.getScoreSum();
+        }
+        Double averageScore = scoreCount == 0 ? null : scoreSum / scoreCount;
+        return new ProgramCompletionSummary(programId, countsByStatus, total, scoreCount, averageScore);
+    }
+    
+    @Transactional(readOnly = true)
+    public ProgramFeedbackSummary getProgramFeedbackSummary(Long programId) {
+        long[] overallCounts = new long[5];
+        long overallUnrated = 0;
+        Map<String, RatingHistogram> byType = new LinkedHashMap<>();
+        for (ProgramFeedbackStats stats : programFeedbackStatsRepository.findByProgramId(programId)) {
+            long[] starCounts = stats.starCounts();
+            for (int i = 0; i < starCounts.length; i++) {
+                overallCounts[i] += starCounts[i];
+            }
+            overallUnrated += stats.getUnratedCount();
+            byType.put(stats.getType(), RatingHistogram.of(starCounts, stats.getUnratedCount()));
+        }
+        return new ProgramFeedbackSummary(programId, RatingHistogram.of(overallCounts, overallUnrated), byType);
+    }
+    
+    @Transactional
+    public void rebuildStats() {
+        sessionAttendanceStatsRepository.deleteAllStats();
+        sessionAttendanceStatsRepository.rebuildFromAttendance();
+        programCompletionStatsRepository.deleteAllStats();
+        programCompletionStatsRepository.rebuildFromCompletions();
+        programFeedbackStatsRepository.deleteAllStats();
+        programFeedbackStatsRepository.rebuildFromFeedback();
+        dailyAttendanceRollupRepository.deleteAllRollups();
+        dailyAttendanceRollupRepository.rebuildFromAttendance();
+        dailyCompletionRollupRepository.deleteAllRollups();
+        dailyCompletionRollupRepository.rebuildFromCompletions();
+        dailyFeedbackRollupRepository.deleteAllRollups();
+        dailyFeedbackRollupRepository.rebuildFromFeedback();
+    }
+    
+    private void adjustAttendance(Attendance attendance, int delta) {
+        if (attendance.getSessionId() == null) {
+            return;
+        }
+        long presentDelta = attendance.isPresent() ? delta : 0;
+        long absentDelta = attendance.isPresent() ? 0 : delta;
+        sessionAttendanceStatsRepository.increment(attendance.getSessionId(), presentDelta, absentDelta);
+        if (attendance.getAttendanceTime() != null) {
+            dailyAttendanceRollupRepository.increment(attendance.getAttendanceTime().toLocalDate(),
+                    attendance.getSessionId(), presentDelta, absentDelta);
+        }
+    }
+    
+    private void adjustCompletion(Completion completion, int delta) {
+        if (completion.getProgramId() == null) {
+            return;
+        }
+        String status = completion.getStatus() == null ? UNSPECIFIED : completion.getStatus();
+        boolean scored = completion.getScore() != null;
+        double scoreDelta = scored ? delta * completion.getScore() : 0;
+        long scoreCountDelta = scored ? delta : 0;
+        programCompletionStatsRepository.increment(completion.getProgramId(), status, delta, scoreDelta, scoreCountDelta);
+        if (completion.getCompletionDate() != null) {
+            dailyCompletionRollupRepository.increment(completion.getCompletionDate().toLocalDate(),
+                    completion.getProgramId(), status, delta, scoreDelta, scoreCountDelta);
+        }
+    }
+    
+    private void adjustFeedback(Feedback feedback, int delta) {
+        if (feedback.getProgramId() == null) {
+            return;
+        }
+        String type = feedback.getType() == null ? UNSPECIFIED : feedback.getType().name();
+        long[] stars = new long[5];
+        long unrated = 0;
+        Integer rating = feedback.getRating();
+        boolean rated = rating != null && rating >= 1 && rating <= 5;
+        if (rated) {
+            stars[rating - 1] = delta;
+        } else {
+            unrated = delta;
+        }
+        programFeedbackStatsRepository.increment(feedback.getProgramId(), type,
+                stars[0], stars[1], stars[2], stars[3], stars[4], unrated);
+        if (feedback.getFeedbackDate() != null) {
+            dailyFeedbackRollupRepository.increment(feedback.getFeedbackDate().toLocalDate(), feedback.getProgramId(),
+                    type, delta, rated ? (long) delta * rating : 0, rated ? delta : 0);
+        }
+    }
+    
+    private record SessionDay(LocalDate date, Long sessionId) {}
+}
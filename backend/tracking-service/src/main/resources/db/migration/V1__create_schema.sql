@@ -0,0 +1,63 @@
+CREATE TABLE IF NOT EXISTS attendance (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    employee_id BIGINT,
+    session_id BIGINT,
+    employee_name VARCHAR(255),
+    session_name VARCHAR(255),
+    attendance_time DATETIME(6),
+    present BIT NOT NULL,
+    notes VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS completion (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    employee_id BIGINT,
+    program_id BIGINT,
+    employee_name VARCHAR(255),
+    program_name VARCHAR(255),
+    completion_date DATETIME(6),
+    score DOUBLE,
+    status VARCHAR(255),
+    certificate_url VARCHAR(255),
+    completed_by VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS feedback (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    employee_id BIGINT,
+    program_id BIGINT,
+    employee_name VARCHAR(255),
+    program_name VARCHAR(255),
+    rating INT,
+    comments VARCHAR(255),
+    provided_by VARCHAR(255),
+    feedback_date DATETIME(6),
+    type VARCHAR(50)
+);
+
+CREATE TABLE IF NOT EXISTS session_attendance_stats (
+    session_id BIGINT PRIMARY KEY,
+    present_count BIGINT NOT NULL,
+    absent_count BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS program_completion_stats (
+    program_id BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    completion_count BIGINT NOT NULL,
+    score_sum DOUBLE NOT NULL,
+    score_count BIGINT NOT NULL,
+    PRIMARY KEY (program_id, status)
+);
+
+CREATE TABLE IF NOT EXISTS program_feedback_stats (
+    program_id BIGINT NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    one_star_count BIGINT NOT NULL,
+    two_star_count BIGINT NOT NULL,
+    three_star_count BIGINT NOT NULL,
+    four_star_count BIGINT NOT NULL,
+    five_star_count BIGINT NOT NULL,
+    unrated_count BIGINT NOT NULL,
+    PRIMARY KEY (program_id, type)
+);
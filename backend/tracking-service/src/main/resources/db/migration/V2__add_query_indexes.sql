@@ -0,0 +1,32 @@
+-- AttendanceRepository.findBySessionIdAndPresent..., findBySessionId... (prefix)
+CREATE INDEX idx_attendance_session_present ON attendance (session_id, present);
+
+-- AttendanceRepository.findByEmployeeIdAndAttendanceTimeBetween..., findByEmployeeId... (prefix)
+CREATE INDEX idx_attendance_employee_time ON attendance (employee_id, attendance_time);
+
+-- AttendanceRepository.findByEmployeeIdAndSessionId...
+CREATE INDEX idx_attendance_employee_session ON attendance (employee_id, session_id);
+
+-- CompletionRepository.findByEmployeeIdAndProgramId returns a single row, findByEmployeeId... (prefix). Repeated
+-- completions from before the constraint keep only the latest, which holds the final outcome.
+DELETE FROM completion WHERE employee_id IS NOT NULL AND program_id IS NOT NULL AND id NOT IN (
+    SELECT keep_id FROM (SELECT MAX(id) AS keep_id FROM completion GROUP BY employee_id, program_id) keep);
+ALTER TABLE completion ADD CONSTRAINT uk_completion_employee_program UNIQUE (employee_id, program_id);
+
+-- CompletionRepository.findByProgramId..., findByStatus..., findByCompletionDateBetween..., findByCompletedBy...
+CREATE INDEX idx_completion_program ON completion (program_id);
+CREATE INDEX idx_completion_status ON completion (status);
+CREATE INDEX idx_completion_date ON completion (completion_date);
+CREATE INDEX idx_completion_completed_by ON completion (completed_by);
+
+-- FeedbackRepository.findByEmployeeIdAndProgramId..., findByEmployeeId... (prefix)
+CREATE INDEX idx_feedback_employee_program ON feedback (employee_id, program_id);
+
+-- FeedbackRepository.findByProgramId..., findByType..., findByProvidedBy..., findByRatingGreaterThanEqual...
+CREATE INDEX idx_feedback_program ON feedback (program_id);
+CREATE INDEX idx_feedback_type ON feedback (type);
+CREATE INDEX idx_feedback_provided_by ON feedback (provided_by);
+CREATE INDEX idx_feedback_rating ON feedback (rating);
+
+-- FeedbackRepository.findByFeedbackDateBetween...
+CREATE INDEX idx_feedback_date ON feedback (feedback_date);
@@ -0,0 +1,56 @@
+-- Per-day counters maintained on write alongside the *_stats tables; weeks and months are summed from days
+CREATE TABLE IF NOT EXISTS daily_attendance_rollup (
+    bucket_date DATE NOT NULL,
+    session_id BIGINT NOT NULL,
+    present_count BIGINT NOT NULL,
+    absent_count BIGINT NOT NULL,
+    PRIMARY KEY (bucket_date, session_id)
+);
+
+CREATE TABLE IF NOT EXISTS daily_completion_rollup (
+    bucket_date DATE NOT NULL,
+    program_id BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    completion_count BIGINT NOT NULL,
+    score_sum DOUBLE NOT NULL,
+    score_count BIGINT NOT NULL,
+    PRIMARY KEY (bucket_date, program_id, status)
+);
+
+CREATE TABLE IF NOT EXISTS daily_feedback_rollup (
+    bucket_date DATE NOT NULL,
+    program_id BIGINT NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    feedback_count BIGINT NOT NULL,
+    rating_sum BIGINT NOT NULL,
+    rating_count BIGINT NOT NULL,
+    PRIMARY KEY (bucket_date, program_id, type)
+);
+
+-- Reports for a single session or program
+CREATE INDEX idx_daily_attendance_rollup_session ON daily_attendance_rollup (session_id, bucket_date);
+CREATE INDEX idx_daily_completion_rollup_program ON daily_completion_rollup (program_id, bucket_date);
+CREATE INDEX idx_daily_feedback_rollup_program ON daily_feedback_rollup (program_id, bucket_date);
+
+-- Backfill from the rows recorded before the rollups existed; same grouping as POST /api/tracking/stats/rebuild
+INSERT INTO daily_attendance_rollup (bucket_date, session_id, present_count, absent_count)
+SELECT CAST(attendance_time AS DATE), session_id,
+       SUM(CASE WHEN present THEN 1 ELSE 0 END), SUM(CASE WHEN present THEN 0 ELSE 1 END)
+FROM attendance
+WHERE session_id IS NOT NULL AND attendance_time IS NOT NULL
+GROUP BY CAST(attendance_time AS DATE), session_id;
+
+INSERT INTO daily_completion_rollup (bucket_date, program_id, status, completion_count, score_sum, score_count)
+SELECT CAST(completion_date AS DATE), program_id, COALESCE(status, 'UNSPECIFIED'),
+       COUNT(*), COALESCE(SUM(score), 0), COUNT(score)
+FROM completion
+WHERE program_id IS NOT NULL AND completion_date IS NOT NULL
+GROUP BY CAST(completion_date AS DATE), program_id, COALESCE(status, 'UNSPECIFIED');
+
+INSERT INTO daily_feedback_rollup (bucket_date, program_id, type, feedback_count, rating_sum, rating_count)
+SELECT CAST(feedback_date AS DATE), program_id, COALESCE(type, 'UNSPECIFIED'), COUNT(*),
+       SUM(CASE WHEN rating BETWEEN 1 AND 5 THEN rating ELSE 0 END),
+       SUM(CASE WHEN rating BETWEEN 1 AND 5 THEN 1 ELSE 0 END)
+FROM feedback
+WHERE program_id IS NOT NULL AND feedback_date IS NOT NULL
+GROUP BY CAST(feedback_date AS DATE), program_id, COALESCE(type, 'UNSPECIFIED');
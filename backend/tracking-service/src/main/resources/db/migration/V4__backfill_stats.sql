@@ -0,0 +1,26 @@
+-- Rebuild the *_stats tables from the rows they count. V1 created them empty next to existing rows, and V2 then
+-- deleted repeated completions that had already been counted. Same queries as POST /api/tracking/stats/rebuild.
+DELETE FROM session_attendance_stats;
+INSERT INTO session_attendance_stats (session_id, present_count, absent_count)
+SELECT session_id, SUM(CASE WHEN present THEN 1 ELSE 0 END), SUM(CASE WHEN present THEN 0 ELSE 1 END)
+FROM attendance
+WHERE session_id IS NOT NULL
+GROUP BY session_id;
+
+DELETE FROM program_completion_stats;
+INSERT INTO program_completion_stats (program_id, status, completion_count, score_sum, score_count)
+SELECT program_id, COALESCE(status, 'UNSPECIFIED'), COUNT(*), COALESCE(SUM(score), 0), COUNT(score)
+FROM completion
+WHERE program_id IS NOT NULL
+GROUP BY program_id, COALESCE(status, 'UNSPECIFIED');
+
+DELETE FROM program_feedback_stats;
+INSERT INTO program_feedback_stats (program_id, type, one_star_count, two_star_count, three_star_count,
+                                    four_star_count, five_star_count, unrated_count)
+SELECT program_id, COALESCE(type, 'UNSPECIFIED'),
+       SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END), SUM(CASE WHEN rating BETWEEN 1 AND 5 THEN 0 ELSE 1 END)
+FROM feedback
+WHERE program_id IS NOT NULL
+GROUP BY program_id, COALESCE(type, 'UNSPECIFIED');
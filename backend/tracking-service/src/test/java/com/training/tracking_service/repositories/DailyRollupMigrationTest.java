@@ -0,0 +1,64 @@
+package com.training.tracking_service.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// V3 against H2 in MySQL mode: rows recorded before the rollups existed are counted in them
+class DailyRollupMigrationTest {
+
+    @Test
+    void existingRowsAreBackfilledIntoDailyRollups() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:tracking_v3_backfill;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        migrate(dataSource, "2");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        attendance(jdbc, 1L, "2024-03-01 09:00:00", true);
+        attendance(jdbc, 1L, "2024-03-01 17:00:00", false);
+        attendance(jdbc, 1L, "2024-03-02 09:00:00", true);
+        attendance(jdbc, null, "2024-03-01 09:00:00", true);
+        completion(jdbc, 1L, "COMPLETE", 80.0);
+        completion(jdbc, 2L, "COMPLETE", null);
+        completion(jdbc, 3L, null, 60.0);
+        feedback(jdbc, 4);
+        feedback(jdbc, null);
+
+        migrate(dataSource, "3");
+
+        assertThat(jdbc.queryForList("SELECT CAST(bucket_date AS VARCHAR) AS bucket_date, session_id, present_count, "
+                + "absent_count FROM daily_attendance_rollup ORDER BY bucket_date")).containsExactly(
+                Map.of("bucket_date", "2024-03-01", "session_id", 1L, "present_count", 1L, "absent_count", 1L),
+                Map.of("bucket_date", "2024-03-02", "session_id", 1L, "present_count", 1L, "absent_count", 0L));
+        assertThat(jdbc.queryForList("SELECT status, completion_count, score_sum, score_count "
+                + "FROM daily_completion_rollup WHERE program_id = 10 ORDER BY status")).containsExactly(
+                Map.of("status", "COMPLETE", "completion_count", 2L, "score_sum", 80.0, "score_count", 1L),
+                Map.of("status", "UNSPECIFIED", "completion_count", 1L, "score_sum", 60.0, "score_count", 1L));
+        assertThat(jdbc.queryForMap("SELECT feedback_count, rating_sum, rating_count FROM daily_feedback_rollup "
+                + "WHERE program_id = 10 AND type = 'EMPLOYEE_TO_PROGRAM'"))
+                .isEqualTo(Map.of("feedback_count", 2L, "rating_sum", 4L, "rating_count", 1L));
+    }
+
+    private static void attendance(JdbcTemplate jdbc, Long sessionId, String time, boolean present) {
+        jdbc.update("INSERT INTO attendance (session_id, attendance_time, present) VALUES (?, ?, ?)",
+                sessionId, time, present);
+    }
+
+    private static void completion(JdbcTemplate jdbc, long employeeId, String status, Double score) {
+        jdbc.update("INSERT INTO completion (employee_id, program_id, completion_date, status, score) "
+                + "VALUES (?, 10, '2024-03-01 12:00:00', ?, ?)", employeeId, status, score);
+    }
+
+    private static void feedback(JdbcTemplate jdbc, Integer rating) {
+        jdbc.update("INSERT INTO feedback (program_id, feedback_date, rating, type) "
+                + "VALUES (10, '2024-03-01 12:00:00', ?, 'EMPLOYEE_TO_PROGRAM')", rating);
+    }
+
+    private static void migrate(DriverManagerDataSource dataSource, String target) {
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").target(target).load().migrate();
+    }
+}
@@ -0,0 +1,96 @@
+package com.training.tracking_service.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// V2 against H2 in MySQL mode: repeated completions are collapsed before the unique constraint, their counters are
+// recomputed by V4, and each repository query has an index
+class QueryIndexMigrationTest {
+
+    @Test
+    void repeatedCompletionsKeepTheLatestBeforeTheConstraintIsAdded() {
+        DriverManagerDataSource dataSource = dataSource("tracking_v2_dedupe");
+        migrate(dataSource, "1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO completion (id, employee_id, program_id, status) VALUES (1, 1, 10, 'FAILED')");
+        jdbc.update("INSERT INTO completion (id, employee_id, program_id, status) VALUES (2, 1, 10, 'COMPLETE')");
+        jdbc.update("INSERT INTO completion (id, employee_id, program_id, status) VALUES (3, 1, 11, 'COMPLETE')");
+        jdbc.update("INSERT INTO completion (id, employee_id, program_id, status) VALUES (4, NULL, 10, 'COMPLETE')");
+        jdbc.update("INSERT INTO completion (id, employee_id, program_id, status) VALUES (5, NULL, 10, 'COMPLETE')");
+
+        // Counted on write before the upgrade, including the repeat that V2 deletes
+        jdbc.update("INSERT INTO program_completion_stats (program_id, status, completion_count, score_sum, "
+                + "score_count) VALUES (10, 'FAILED', 1, 0, 0), (10, 'COMPLETE', 3, 0, 0), (11, 'COMPLETE', 1, 0, 0)");
+
+        migrate(dataSource, "4");
+
+        assertThat(jdbc.queryForList("SELECT id FROM completion ORDER BY id", Long.class))
+                .containsExactly(2L, 3L, 4L, 5L);
+        assertThat(jdbc.queryForList("SELECT program_id, status, completion_count FROM program_completion_stats "
+                + "ORDER BY program_id, status")).containsExactly(
+                Map.of("program_id", 10L, "status", "COMPLETE", "completion_count", 3L),
+                Map.of("program_id", 11L, "status", "COMPLETE", "completion_count", 1L));
+    }
+
+    @Test
+    void repositoryQueriesUseTheMigratedIndexes() {
+        DriverManagerDataSource dataSource = dataSource("tracking_v2_plans");
+        migrate(dataSource, "2");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        // Date ranges are checked without the keyset ORDER BY id: H2 costs an id > 0 scan of the primary key below
+        // any range scan that then needs a sort, whatever the table size, so only MySQL's statistics can choose
+        // between the two for the paged queries
+        Map<String, String> expectedIndexes = new LinkedHashMap<>();
+        expectedIndexes.put("SELECT * FROM attendance WHERE session_id = 1 AND present = TRUE AND id > 0 ORDER BY id",
+                "idx_attendance_session_present");
+        expectedIndexes.put("SELECT * FROM attendance WHERE employee_id = 1 AND attendance_time BETWEEN "
+                + "TIMESTAMP '2024-01-01 00:00:00' AND TIMESTAMP '2024-02-01 00:00:00' AND id > 0 ORDER BY id",
+                "idx_attendance_employee_time");
+        expectedIndexes.put("SELECT * FROM attendance WHERE employee_id = 1 AND session_id = 1 AND id > 0 ORDER BY id",
+                "idx_attendance_employee_session");
+        expectedIndexes.put("SELECT * FROM completion WHERE employee_id = 1 AND program_id = 10",
+                "uk_completion_employee_program");
+        expectedIndexes.put("SELECT * FROM completion WHERE program_id = 10 AND id > 0 ORDER BY id",
+                "idx_completion_program");
+        expectedIndexes.put("SELECT * FROM completion WHERE status = 'COMPLETE' AND id > 0 ORDER BY id",
+                "idx_completion_status");
+        expectedIndexes.put("SELECT * FROM completion WHERE completion_date BETWEEN "
+                + "TIMESTAMP '2024-01-01 00:00:00' AND TIMESTAMP '2024-02-01 00:00:00'",
+                "idx_completion_date");
+        expectedIndexes.put("SELECT * FROM completion WHERE completed_by = 'trainer' AND id > 0 ORDER BY id",
+                "idx_completion_completed_by");
+        expectedIndexes.put("SELECT * FROM feedback WHERE employee_id = 1 AND program_id = 10 AND id > 0 ORDER BY id",
+                "idx_feedback_employee_program");
+        expectedIndexes.put("SELECT * FROM feedback WHERE program_id = 10 AND id > 0 ORDER BY id",
+                "idx_feedback_program");
+        expectedIndexes.put("SELECT * FROM feedback WHERE type = 'EMPLOYEE_TO_PROGRAM' AND id > 0 ORDER BY id",
+                "idx_feedback_type");
+        expectedIndexes.put("SELECT * FROM feedback WHERE provided_by = 'trainer' AND id > 0 ORDER BY id",
+                "idx_feedback_provided_by");
+        expectedIndexes.put("SELECT * FROM feedback WHERE feedback_date BETWEEN "
+                + "TIMESTAMP '2024-01-01 00:00:00' AND TIMESTAMP '2024-02-01 00:00:00'",
+                "idx_feedback_date");
+
+        expectedIndexes.forEach((sql, index) -> {
+            String plan = String.join("\n", jdbc.queryForList("EXPLAIN " + sql, String.class));
+            assertThat(plan).as(sql).containsIgnoringCase(index);
+        });
+    }
+
+    private static DriverManagerDataSource dataSource(String name) {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void migrate(DriverManagerDataSource dataSource, String target) {
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").target(target).load().migrate();
+    }
+}
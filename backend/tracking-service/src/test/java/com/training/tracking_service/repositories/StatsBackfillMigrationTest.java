@@ -0,0 +1,46 @@
+package com.training.tracking_service.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// V4 against H2 in MySQL mode: rows recorded before the counters were maintained are counted in the *_stats tables
+class StatsBackfillMigrationTest {
+
+    @Test
+    void existingRowsAreBackfilledIntoStats() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:tracking_v4_backfill;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        migrate(dataSource, "3");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO attendance (session_id, present) VALUES (1, TRUE), (1, FALSE), (1, TRUE), "
+                + "(NULL, TRUE)");
+        jdbc.update("INSERT INTO completion (employee_id, program_id, status, score) VALUES (1, 10, 'COMPLETE', 80.0), "
+                + "(2, 10, 'COMPLETE', NULL), (3, 10, NULL, 60.0)");
+        jdbc.update("INSERT INTO feedback (program_id, rating, type) VALUES (10, 4, 'EMPLOYEE_TO_PROGRAM'), "
+                + "(10, 4, 'EMPLOYEE_TO_PROGRAM'), (10, NULL, 'EMPLOYEE_TO_PROGRAM'), (10, 2, NULL)");
+
+        migrate(dataSource, "4");
+
+        assertThat(jdbc.queryForMap("SELECT present_count, absent_count FROM session_attendance_stats "
+                + "WHERE session_id = 1")).isEqualTo(Map.of("present_count", 2L, "absent_count", 1L));
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM session_attendance_stats", Long.class)).isEqualTo(1L);
+        assertThat(jdbc.queryForList("SELECT status, completion_count, score_sum, score_count "
+                + "FROM program_completion_stats WHERE program_id = 10 ORDER BY status")).containsExactly(
+                Map.of("status", "COMPLETE", "completion_count", 2L, "score_sum", 80.0, "score_count", 1L),
+                Map.of("status", "UNSPECIFIED", "completion_count", 1L, "score_sum", 60.0, "score_count", 1L));
+        assertThat(jdbc.queryForList("SELECT type, two_star_count, four_star_count, unrated_count "
+                + "FROM program_feedback_stats WHERE program_id = 10 ORDER BY type")).containsExactly(
+                Map.of("type", "EMPLOYEE_TO_PROGRAM", "two_star_count", 0L, "four_star_count", 2L, "unrated_count", 1L),
+                Map.of("type", "UNSPECIFIED", "two_star_count", 1L, "four_star_count", 0L, "unrated_count", 0L));
+    }
+
+    private static void migrate(DriverManagerDataSource dataSource, String target) {
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").target(target).load().migrate();
+    }
+}
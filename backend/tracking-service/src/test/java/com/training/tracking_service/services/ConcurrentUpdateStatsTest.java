@@ -0,0 +1,155 @@
+package com.training.tracking_service.services;
+
+import com.training.tracking_service.dto.ProgramCompletionSummary;
+import com.training.tracking_service.dto.RatingHistogram;
+import com.training.tracking_service.dto.SessionAttendanceSummary;
+import com.training.tracking_service.models.Attendance;
+import com.training.tracking_service.models.Completion;
+import com.training.tracking_service.models.Feedback;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two updates of the same row race on every round. Both set the same new value, so if they both read the old row
+// before either commits, its old value is subtracted twice and the counters no longer match the stored row.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrent_updates;MODE=MySQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("loadtest")
+class ConcurrentUpdateStatsTest {
+
+    private static final int ROUNDS = 50;
+    private static final LocalDateTime DATE = LocalDateTime.of(2024, 3, 1, 9, 0);
+    private static final ExecutorService UPDATERS = Executors.newFixedThreadPool(2);
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private CompletionService completionService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private TrackingStatsService trackingStatsService;
+
+    @AfterAll
+    static void shutdown() {
+        UPDATERS.shutdownNow();
+    }
+
+    @Test
+    void concurrentAttendanceUpdatesKeepSessionCountsExact() throws Exception {
+        long sessionId = 101;
+        Long id = attendanceService.recordAttendance(attendance(sessionId, true)).getId();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            boolean present = round % 2 == 1;
+            updateTwiceConcurrently(() -> attendanceService.updateAttendance(id, attendance(sessionId, present)));
+        }
+
+        boolean stored = attendanceService.getAttendanceById(id).orElseThrow().isPresent();
+        SessionAttendanceSummary summary = trackingStatsService.getSessionAttendanceSummary(sessionId);
+        assertThat(summary.getPresentCount()).isEqualTo(stored ? 1 : 0);
+        assertThat(summary.getAbsentCount()).isEqualTo(stored ? 0 : 1);
+    }
+
+    @Test
+    void concurrentCompletionUpdatesKeepStatusCountsExact() throws Exception {
+        long programId = 201;
+        Long id = completionService.recordCompletion(completion(programId, "COMPLETE")).getId();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            String status = round % 2 == 0 ? "FAILED" : "COMPLETE";
+            updateTwiceConcurrently(() -> completionService.updateCompletion(id, completion(programId, status)));
+        }
+
+        String stored = completionService.getCompletionById(id).orElseThrow().getStatus();
+        ProgramCompletionSummary summary = trackingStatsService.getProgramCompletionSummary(programId);
+        assertThat(summary.getTotalCount()).isEqualTo(1);
+        assertThat(summary.getCountsByStatus()).containsEntry(stored, 1L);
+        assertThat(summary.getScoreCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentFeedbackUpdatesKeepRatingHistogramExact() throws Exception {
+        long programId = 301;
+        Long id = feedbackService.recordFeedback(feedback(programId, 5)).getId();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            int rating = round % 2 == 0 ? 2 : 5;
+            updateTwiceConcurrently(() -> feedbackService.updateFeedback(id, feedback(programId, rating)));
+        }
+
+        int stored = feedbackService.getFeedbackById(id).orElseThrow().getRating();
+        RatingHistogram overall = trackingStatsService.getProgramFeedbackSummary(programId).getOverall();
+        assertThat(overall.getRatingCount()).isEqualTo(1);
+        assertThat(overall.getCounts()).containsExactlyInAnyOrderEntriesOf(
+                Map.of(1, 0L, 2, stored == 2 ? 1L : 0L, 3, 0L, 4, 0L, 5, stored == 5 ? 1L : 0L));
+    }
+
+    private static void updateTwiceConcurrently(Runnable update) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> updates = List.of(
+                UPDATERS.submit(() -> awaitThen(start, update)),
+                UPDATERS.submit(() -> awaitThen(start, update)));
+        start.countDown();
+        for (Future<?> future : updates) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void awaitThen(CountDownLatch start, Runnable update) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        update.run();
+    }
+
+    private static Attendance attendance(long sessionId, boolean present) {
+        Attendance attendance = new Attendance();
+        attendance.setEmployeeId(1L);
+        attendance.setSessionId(sessionId);
+        attendance.setAttendanceTime(DATE);
+        attendance.setPresent(present);
+        return attendance;
+    }
+
+    private static Completion completion(long programId, String status) {
+        Completion completion = new Completion();
+        completion.setEmployeeId(1L);
+        completion.setProgramId(programId);
+        completion.setCompletionDate(DATE);
+        completion.setStatus(status);
+        completion.setScore(80.0);
+        return completion;
+    }
+
+    private static Feedback feedback(long programId, int rating) {
+        Feedback feedback = new Feedback();
+        feedback.setEmployeeId(1L);
+        feedback.setProgramId(programId);
+        feedback.setFeedbackDate(DATE);
+        feedback.setRating(rating);
+        feedback.setType(Feedback.FeedbackType.EMPLOYEE_TO_PROGRAM);
+        return feedback;
+    }
+}
@@ -1,58 +1,93 @@
 package com.training.program_service.aop;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Aspect
 @Component
 @Slf4j
 public class LoggingAspect {
 
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public LoggingAspect(MeterRegistry meterRegistry, @Value("${aop.logging.sample-rate:0}") double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+    }
+
     @Pointcut("execution(* com.training.program_service.controllers.*.*(..))")
     public void controllerMethods() {}
 
     @Pointcut("execution(* com.training.program_service.services.*.*(..))")
     public void serviceMethods() {}
 
-    @Before("controllerMethods()")
-    public void logBeforeControllerMethodCall(JoinPoint joinPoint) {
-        log.info("Controller Method Called: {} with arguments: {}", 
-                joinPoint.getSignature().getName(), 
-                Arrays.toString(joinPoint.getArgs()));
+    @Around("controllerMethods() || serviceMethods()")
+    public Object timeExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers methodTimers = timers.computeIfAbsent(method, this::registerTimers);
+        
+        // Arguments and results are only rendered for a sampled fraction of calls, and only at DEBUG
+        boolean sampled = sampleRate > 0 && log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        if (sampled) {
+            log.debug("Method Called: {}.{} with arguments: {}",
+                    method.getDeclaringClass().getSimpleName(), method.getName(), Arrays.toString(joinPoint.getArgs()));
+        }
+        
+        long startTime = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodTimers.success().record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            if (sampled) {
+                log.debug("Method Completed: {}.{} with result: {}",
+                        method.getDeclaringClass().getSimpleName(), method.getName(), describe(result));
+            }
+            return result;
+        } catch (Throwable exception) {
+            methodTimers.error().record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            log.error("Exception in {}.{}: {} - {}",
+                    method.getDeclaringClass().getName(),
+                    method.getName(),
+                    exception.getClass().getSimpleName(),
+                    exception.getMessage());
+            throw exception;
+        }
     }
 
-    @AfterReturning(pointcut = "serviceMethods()", returning = "result")
-    public void logAfterServiceMethodCall(JoinPoint joinPoint, Object result) {
-        log.info("Service Method Completed: {} with result: {}", 
-                joinPoint.getSignature().getName(), 
-                result);
+    private MethodTimers registerTimers(Method method) {
+        return new MethodTimers(timer(method, "success"), timer(method, "error"));
     }
 
-    @AfterThrowing(pointcut = "controllerMethods() || serviceMethods()", throwing = "exception")
-    public void logAfterException(JoinPoint joinPoint, Exception exception) {
-        log.error("Exception in {}.{}: {} - {}",
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(),
-                exception.getClass().getSimpleName(),
-                exception.getMessage());
+    private Timer timer(Method method, String outcome) {
+        return Timer.builder("method.timed")
+                .tags("class", method.getDeclaringClass().getSimpleName(),
+                        "method", method.getName(),
+                        "outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
     }
 
-    @Around("controllerMethods() || serviceMethods()")
-    public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        long startTime = System.currentTimeMillis();
-        Object result = joinPoint.proceed();
-        long endTime = System.currentTimeMillis();
-        
-        log.info("Method Execution Time: {}.{} - {} ms", 
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(),
-                (endTime - startTime));
-        
+    private static Object describe(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return result.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
         return result;
     }
+
+    private record MethodTimers(Timer success, Timer error) {}
 }
@@ -0,0 +1,69 @@
+package com.training.program_service.clients;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Fans out to every employee-service instance, not just one behind the load balancer. Best effort: an
+// instance that is down, slow or behind a full queue keeps its entry until the cache TTL expires it.
+@Component
+@Slf4j
+public class ProgramCacheInvalidator {
+    
+    private static final String EMPLOYEE_SERVICE = "employee-service";
+    
+    private final DiscoveryClient discoveryClient;
+    private final RestClient restClient;
+    private final ExecutorService executor;
+    
+    public ProgramCacheInvalidator(DiscoveryClient discoveryClient,
+                                   @Value("${training.program-cache.connect-timeout:500ms}") Duration connectTimeout,
+                                   @Value("${training.program-cache.read-timeout:1s}") Duration readTimeout,
+                                   @Value("${training.program-cache.queue-capacity:1000}") int queueCapacity) {
+        this.discoveryClient = discoveryClient;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity));
+    }
+    
+    public void invalidate(Long programId) {
+        try {
+            executor.execute(() -> {
+                for (ServiceInstance instance : discoveryClient.getInstances(EMPLOYEE_SERVICE)) {
+                    try {
+                        restClient.delete()
+                                .uri(instance.getUri() + "/api/employees/program-cache/{programId}", programId)
+                                .retrieve()
+                                .toBodilessEntity();
+                    } catch (RestClientException e) {
+                        log.warn("Failed to invalidate program {} on {}: {}", programId, instance.getUri(),
+                                e.getMessage());
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Dropped cache invalidation for program {}: the invalidation queue is full", programId);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
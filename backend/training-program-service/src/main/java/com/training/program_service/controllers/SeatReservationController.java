@@ -0,0 +1,49 @@
+package com.training.program_service.controllers;
+
+import com.training.program_service.dto.SeatAvailability;
+import com.training.program_service.models.SeatReservation;
+import com.training.program_service.pagination.CursorPage;
+import com.training.program_service.services.SeatReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/training/reservations")
+@RequiredArgsConstructor
+public class SeatReservationController {
+    
+    private final SeatReservationService reservationService;
+    
+    @PostMapping("/session/{sessionId}/employee/{employeeId}")
+    public ResponseEntity<SeatReservation> reserveSeat(
+            @PathVariable Long sessionId,
+            @PathVariable Long employeeId) {
+        return new ResponseEntity<>(reservationService.reserve(sessionId, employeeId), HttpStatus.CREATED);
+    }
+    
+    @PatchMapping("/{id}/cancel")
+    public ResponseEntity<SeatReservation> cancelReservation(@PathVariable Long id) {
+        return ResponseEntity.ok(reservationService.cancel(id));
+    }
+    
+    @GetMapping("/session/{sessionId}")
+    public ResponseEntity<List<SeatReservation>> getReservationsBySession(
+            @PathVariable Long sessionId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(reservationService.getReservationsBySession(sessionId, status, after, limit),
+                limit, SeatReservation::getId);
+    }
+    
+    @GetMapping("/session/{sessionId}/availability")
+    public ResponseEntity<SeatAvailability> getAvailability(@PathVariable Long sessionId) {
+        return reservationService.getAvailability(sessionId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
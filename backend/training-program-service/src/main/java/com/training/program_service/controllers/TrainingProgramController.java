@@ -1,11 +1,16 @@
 package com.training.program_service.controllers;
 
+import com.training.program_service.dto.ProgramSuggestion;
 import com.training.program_service.models.TrainingProgram;
+import com.training.program_service.pagination.CursorPage;
+import com.training.program_service.pagination.NdjsonStreamer;
 import com.training.program_service.services.TrainingProgramService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,10 +20,18 @@ import java.util.List;
 public class TrainingProgramController {
     
     private final TrainingProgramService programService;
+    private final NdjsonStreamer ndjsonStreamer;
     
     @GetMapping
-    public ResponseEntity<List<TrainingProgram>> getAllPrograms() {
-        return ResponseEntity.ok(programService.getAllPrograms());
+    public ResponseEntity<List<TrainingProgram>> getAllPrograms(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(programService.getAllPrograms(after, limit), limit, TrainingProgram::getId);
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPrograms() {
+        return ndjsonStreamer.stream(programService::streamAllPrograms);
     }
     
     @GetMapping("/{id}")
@@ -28,6 +41,11 @@ public class TrainingProgramController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/batch")
+    public ResponseEntity<List<TrainingProgram>> getProgramsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(programService.getProgramsByIds(ids));
+    }
+    
     @PostMapping
     public ResponseEntity<TrainingProgram> createProgram(@RequestBody TrainingProgram program) {
         return new ResponseEntity<>(programService.createProgram(program), HttpStatus.CREATED);
@@ -45,17 +63,36 @@ public class TrainingProgramController {
     }
     
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<TrainingProgram>> getProgramsByCategory(@PathVariable String category) {
-        return ResponseEntity.ok(programService.getProgramsByCategory(category));
+    public ResponseEntity<List<TrainingProgram>> getProgramsByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(programService.getProgramsByCategory(category, after, limit),
+                limit, TrainingProgram::getId);
     }
     
     @GetMapping("/creator/{createdBy}")
-    public ResponseEntity<List<TrainingProgram>> getProgramsByCreator(@PathVariable String createdBy) {
-        return ResponseEntity.ok(programService.getProgramsByCreator(createdBy));
+    public ResponseEntity<List<TrainingProgram>> getProgramsByCreator(
+            @PathVariable String createdBy,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(programService.getProgramsByCreator(createdBy, after, limit),
+                limit, TrainingProgram::getId);
     }
     
     @GetMapping("/search")
-    public ResponseEntity<List<TrainingProgram>> searchProgramsByName(@RequestParam String name) {
-        return ResponseEntity.ok(programService.searchProgramsByName(name));
+    public ResponseEntity<List<TrainingProgram>> searchProgramsByName(
+            @RequestParam String name,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(programService.searchProgramsByName(name, after, limit),
+                limit, TrainingProgram::getId);
+    }
+    
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ProgramSuggestion>> autocompletePrograms(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = TrainingProgramService.DEFAULT_SUGGESTIONS) int limit) {
+        return ResponseEntity.ok(programService.suggestPrograms(prefix, limit));
     }
 }
@@ -1,12 +1,16 @@
 package com.training.program_service.controllers;
 
 import com.training.program_service.models.TrainingSession;
+import com.training.program_service.pagination.CursorPage;
+import com.training.program_service.pagination.NdjsonStreamer;
 import com.training.program_service.services.TrainingSessionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,10 +21,18 @@ import java.util.List;
 public class TrainingSessionController {
     
     private final TrainingSessionService sessionService;
+    private final NdjsonStreamer ndjsonStreamer;
     
     @GetMapping
-    public ResponseEntity<List<TrainingSession>> getAllSessions() {
-        return ResponseEntity.ok(sessionService.getAllSessions());
+    public ResponseEntity<List<TrainingSession>> getAllSessions(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(sessionService.getAllSessions(after, limit), limit, TrainingSession::getId);
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllSessions() {
+        return ndjsonStreamer.stream(sessionService::streamAllSessions);
     }
     
     @GetMapping("/{id}")
@@ -30,6 +42,11 @@ public class TrainingSessionController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/batch")
+    public ResponseEntity<List<TrainingSession>> getSessionsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(sessionService.getSessionsByIds(ids));
+    }
+    
     @PostMapping("/program/{programId}")
     public ResponseEntity<TrainingSession> createSession(
             @PathVariable Long programId,
@@ -51,24 +68,39 @@ public class TrainingSessionController {
     }
     
     @GetMapping("/program/{programId}")
-    public ResponseEntity<List<TrainingSession>> getSessionsByProgramId(@PathVariable Long programId) {
-        return ResponseEntity.ok(sessionService.getSessionsByProgramId(programId));
+    public ResponseEntity<List<TrainingSession>> getSessionsByProgramId(
+            @PathVariable Long programId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(sessionService.getSessionsByProgramId(programId, after, limit),
+                limit, TrainingSession::getId);
     }
     
     @GetMapping("/trainer/{trainer}")
-    public ResponseEntity<List<TrainingSession>> getSessionsByTrainer(@PathVariable String trainer) {
-        return ResponseEntity.ok(sessionService.getSessionsByTrainer(trainer));
+    public ResponseEntity<List<TrainingSession>> getSessionsByTrainer(
+            @PathVariable String trainer,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(sessionService.getSessionsByTrainer(trainer, after, limit),
+                limit, TrainingSession::getId);
     }
     
     @GetMapping("/date-range")
     public ResponseEntity<List<TrainingSession>> getSessionsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
-        return ResponseEntity.ok(sessionService.getSessionsByDateRange(start, end));
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(sessionService.getSessionsByDateRange(start, end, after, limit),
+                limit, TrainingSession::getId);
     }
     
     @GetMapping("/location")
-    public ResponseEntity<List<TrainingSession>> getSessionsByLocation(@RequestParam String location) {
-        return ResponseEntity.ok(sessionService.getSessionsByLocation(location));
+    public ResponseEntity<List<TrainingSession>> getSessionsByLocation(
+            @RequestParam String location,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPage.ok(sessionService.getSessionsByLocation(location, after, limit),
+                limit, TrainingSession::getId);
     }
 }
@@ -0,0 +1,82 @@
+package com.training.program_service.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+// Replaces the auto-configured DataSource when datasource.routing.enabled is true. Flyway, JPA and JdbcTemplate
+// all use the routed proxy; work outside a read-only transaction, including migrations, goes to the primary.
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaRoutingProperties properties) {
+        return new ReplicaRoutingDataSource(primaryDataSource, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // Hibernate otherwise keeps the first connection for the whole open-in-view session, so one request could
+    // read and write through whichever database its first transaction was routed to
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                     ReplicaRoutingProperties properties) {
+        return new ReadYourWritesFilter(replicaRoutingDataSource, properties.clientHeader());
+    }
+
+    // Runs once the schema exists (Flyway and Hibernate run during singleton creation) and before traffic
+    @Bean
+    public SmartInitializingSingleton replicaStartupCheck(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                          ReplicaRoutingProperties properties) {
+        return () -> {
+            if (properties.copySchemaToReplicas()) {
+                try {
+                    replicaRoutingDataSource.copySchemaToReplicas();
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Could not copy the schema to the read replicas", e);
+                }
+            }
+            replicaRoutingDataSource.checkReplicas();
+        };
+    }
+
+    // Reported but never DOWN: reads fall back to the primary while replicas are unavailable
+    @Bean
+    public HealthIndicator replicasHealthIndicator(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return () -> Health.up().withDetails(replicaRoutingDataSource.replicaStatus()).build();
+    }
+}
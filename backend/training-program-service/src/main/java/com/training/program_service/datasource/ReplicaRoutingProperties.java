@@ -0,0 +1,36 @@
+package com.training.program_service.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas for {@code @Transactional(readOnly = true)} work; the primary is {@code spring.datasource}.
+ *
+ * @param readYourWrites        once a request has written, its remaining reads go to the primary
+ * @param stickyWindow          how long reads from the same client (by {@code clientHeader}) stay on the primary
+ *                              after one of its writes; zero limits stickiness to the writing request
+ * @param copySchemaToReplicas  embedded (H2) replicas only: copy the primary's schema to each replica at startup
+ * @param maxReplicationLag     a replica further behind its source is read from again only once it catches up
+ */
+@ConfigurationProperties("datasource.routing")
+public record ReplicaRoutingProperties(
+        boolean enabled,
+        List<Replica> replicas,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("1s") Duration healthCheckTimeout,
+        @DefaultValue("true") boolean readYourWrites,
+        @DefaultValue("0s") Duration stickyWindow,
+        @DefaultValue("X-Client-Id") String clientHeader,
+        boolean copySchemaToReplicas,
+        @DefaultValue("30s") Duration maxReplicationLag) {
+
+    public List<Replica> replicas() {
+        return replicas == null ? List.of() : replicas;
+    }
+
+    public record Replica(String url, String username, String password, @DefaultValue("10") int maxPoolSize) {
+    }
+}
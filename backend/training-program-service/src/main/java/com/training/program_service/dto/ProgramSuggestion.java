@@ -0,0 +1,15 @@
+package com.training.program_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgramSuggestion {
+    
+    private Long id;
+    private String name;
+    private String category;
+}
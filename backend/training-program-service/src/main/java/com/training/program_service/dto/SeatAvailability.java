@@ -0,0 +1,16 @@
+package com.training.program_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAvailability {
+    
+    private Long sessionId;
+    private Integer maxAttendees;
+    private int reservedSeats;
+    private long waitlisted;
+}
@@ -0,0 +1,30 @@
+package com.training.program_service.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"session_id", "employee_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatReservation {
+    
+    public static final String RESERVED = "RESERVED";
+    public static final String WAITLISTED = "WAITLISTED";
+    public static final String CANCELLED = "CANCELLED";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    private Long sessionId;
+    private Long employeeId;
+    private String status; // RESERVED, WAITLISTED, CANCELLED
+    private LocalDateTime requestedAt;
+    private LocalDateTime updatedAt;
+}
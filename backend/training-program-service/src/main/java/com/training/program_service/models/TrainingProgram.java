@@ -3,7 +3,10 @@ package com.training.program_service.models;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +26,10 @@ public class TrainingProgram {
     private String category;
     private String createdBy;
     
+    // Loaded a page (at most 1000 rows) at a time rather than per program; kept out of toString/equals/hashCode
     @OneToMany(mappedBy = "trainingProgram", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 1000)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<TrainingSession> sessions = new ArrayList<>();
 }
@@ -1,10 +1,13 @@
 package com.training.program_service.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -26,8 +29,15 @@ public class TrainingSession {
     private String trainer;
     private Integer maxAttendees;
     
+    // Maintained by SeatReservationService through conditional updates, never written back from the entity
+    @Column(updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int reservedSeats;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "training_program_id")
     @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private TrainingProgram trainingProgram;
 }
@@ -0,0 +1,37 @@
+package com.training.program_service.pagination;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+public final class CursorPage {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String DEFAULT_LIMIT = "100";
+    public static final int MAX_LIMIT = 1000;
+
+    private CursorPage() {}
+
+    public static long after(Long cursor) {
+        return cursor == null ? 0L : cursor;
+    }
+
+    public static Limit limit(int limit) {
+        return Limit.of(clamp(limit));
+    }
+
+    // The next cursor is only advertised when the page came back full, so clients stop on a short page
+    public static <T> ResponseEntity<List<T>> ok(List<T> rows, int limit, Function<T, Long> idOf) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!rows.isEmpty() && rows.size() >= clamp(limit)) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(idOf.apply(rows.get(rows.size() - 1))));
+        }
+        return response.body(rows);
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,23 @@
+package com.training.program_service.repositories;
+
+import com.training.program_service.models.SeatReservation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SeatReservationRepository extends JpaRepository<SeatReservation, Long> {
+    Optional<SeatReservation> findBySessionIdAndEmployeeId(Long sessionId, Long employeeId);
+    List<SeatReservation> findBySessionIdAndIdGreaterThanOrderByIdAsc(Long sessionId, Long after, Limit limit);
+    List<SeatReservation> findBySessionIdAndStatusAndIdGreaterThanOrderByIdAsc(Long sessionId, String status, Long after, Limit limit);
+    long countBySessionIdAndStatus(Long sessionId, String status);
+
+    // Locking reads, so a promotion sees waitlist rows committed after the transaction's snapshot
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<SeatReservation> findBySessionIdAndStatusOrderByRequestedAtAscIdAsc(Long sessionId, String status, Limit limit);
+}
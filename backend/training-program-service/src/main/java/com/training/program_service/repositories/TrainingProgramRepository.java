@@ -1,14 +1,34 @@
 package com.training.program_service.repositories;
 
 import com.training.program_service.models.TrainingProgram;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TrainingProgramRepository extends JpaRepository<TrainingProgram, Long> {
-    List<TrainingProgram> findByCategory(String category);
-    List<TrainingProgram> findByCreatedBy(String createdBy);
-    List<TrainingProgram> findByNameContainingIgnoreCase(String name);
+    List<TrainingProgram> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+    List<TrainingProgram> findByIdInOrderByIdAsc(Collection<Long> ids);
+    List<TrainingProgram> findByCategoryAndIdGreaterThanOrderByIdAsc(String category, Long after, Limit limit);
+    List<TrainingProgram> findByCreatedByAndIdGreaterThanOrderByIdAsc(String createdBy, Long after, Limit limit);
+    List<TrainingProgram> findByNameContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String name, Long after, Limit limit);
+    List<TrainingProgram> findByNameStartingWithOrderByNameAscIdAsc(String prefix, Limit limit);
+
+    // ngram full-text index (V3); callers pass a quoted phrase so the term's ngrams must match in order
+    @Query(value = "select * from training_program where match(name) against (:phrase in boolean mode) "
+            + "and id > :after order by id", nativeQuery = true)
+    List<TrainingProgram> searchByName(String phrase, Long after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    // Fetch-joined so each streamed program arrives with its sessions; Hibernate groups the rows by root
+    @Query("select p from TrainingProgram p left join fetch p.sessions order by p.id")
+    Stream<TrainingProgram> streamAll();
 }
@@ -1,16 +1,51 @@
 package com.training.program_service.repositories;
 
 import com.training.program_service.models.TrainingSession;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TrainingSessionRepository extends JpaRepository<TrainingSession, Long> {
-    List<TrainingSession> findByTrainingProgramId(Long programId);
-    List<TrainingSession> findByTrainer(String trainer);
-    List<TrainingSession> findByStartTimeBetween(LocalDateTime start, LocalDateTime end);
-    List<TrainingSession> findByLocationIgnoreCase(String location);
+    List<TrainingSession> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+    List<TrainingSession> findByIdInOrderByIdAsc(Collection<Long> ids);
+    List<TrainingSession> findByTrainingProgramIdAndIdGreaterThanOrderByIdAsc(Long programId, Long after, Limit limit);
+    List<TrainingSession> findByTrainerAndIdGreaterThanOrderByIdAsc(String trainer, Long after, Limit limit);
+    List<TrainingSession> findByStartTimeBetweenAndIdGreaterThanOrderByIdAsc(LocalDateTime start, LocalDateTime end, Long after, Limit limit);
+    List<TrainingSession> findByLocationIgnoreCaseAndIdGreaterThanOrderByIdAsc(String location, Long after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select s from TrainingSession s order by s.id")
+    Stream<TrainingSession> streamAll();
+
+    // Takes a seat only while one is free; the row lock serializes seat changes for the session
+    @Modifying
+    @Query("update TrainingSession s set s.reservedSeats = s.reservedSeats + 1 "
+            + "where s.id = :id and (s.maxAttendees is null or s.reservedSeats < s.maxAttendees)")
+    int takeSeat(Long id);
+
+    @Modifying
+    @Query("update TrainingSession s set s.reservedSeats = s.reservedSeats - 1 where s.id = :id and s.reservedSeats > 0")
+    int releaseSeat(Long id);
+
+    @Modifying
+    @Query("update TrainingSession s set s.reservedSeats = :reservedSeats where s.id = :id")
+    int setReservedSeats(Long id, int reservedSeats);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from TrainingSession s where s.id = :id")
+    Optional<TrainingSession> lockById(Long id);
 }
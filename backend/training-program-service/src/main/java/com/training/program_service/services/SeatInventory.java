@@ -0,0 +1,81 @@
+package com.training.program_service.services;
+
+import com.training.program_service.models.TrainingSession;
+import com.training.program_service.repositories.TrainingSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// In-memory seat counters per session. They admit reservation attempts without touching the session row
+// once a session is full; the conditional update on training_session.reserved_seats stays the authority,
+// so a stale counter only costs a refused update or a waitlisting that reconciliation later promotes.
+@Component
+@RequiredArgsConstructor
+public class SeatInventory {
+
+    private final TrainingSessionRepository sessionRepository;
+    private final Map<Long, Seats> sessions = new ConcurrentHashMap<>();
+
+    public boolean tryAcquire(Long sessionId) {
+        Seats seats = sessions.computeIfAbsent(sessionId, this::load);
+        int reserved;
+        do {
+            reserved = seats.reserved.get();
+            if (reserved >= seats.capacity) {
+                return false;
+            }
+        } while (!seats.reserved.compareAndSet(reserved, reserved + 1));
+        return true;
+    }
+
+    public void release(Long sessionId) {
+        Seats seats = sessions.get(sessionId);
+        if (seats != null) {
+            seats.reserved.updateAndGet(reserved -> Math.max(0, reserved - 1));
+        }
+    }
+
+    // The database refused a seat the counter admitted: another instance or a stale capacity filled it
+    public void markFull(Long sessionId) {
+        Seats seats = sessions.get(sessionId);
+        if (seats != null) {
+            seats.reserved.updateAndGet(reserved -> Math.max(reserved, seats.capacity));
+        }
+    }
+
+    public void reset(Long sessionId, Integer maxAttendees, int reservedSeats) {
+        sessions.put(sessionId, new Seats(capacity(maxAttendees), reservedSeats));
+    }
+
+    public void forget(Long sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    public Set<Long> trackedSessions() {
+        return Set.copyOf(sessions.keySet());
+    }
+
+    private Seats load(Long sessionId) {
+        TrainingSession session = sessionRepository.findById(sessionId)
+                .orElseThrow(() -> new RuntimeException("Training Session not found with id: " + sessionId));
+        return new Seats(capacity(session.getMaxAttendees()), session.getReservedSeats());
+    }
+
+    private static int capacity(Integer maxAttendees) {
+        return maxAttendees == null ? Integer.MAX_VALUE : maxAttendees;
+    }
+
+    private static final class Seats {
+        private final int capacity;
+        private final AtomicInteger reserved;
+
+        private Seats(int capacity, int reserved) {
+            this.capacity = capacity;
+            this.reserved = new AtomicInteger(reserved);
+        }
+    }
+}
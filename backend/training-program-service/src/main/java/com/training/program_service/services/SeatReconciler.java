@@ -0,0 +1,29 @@
+package com.training.program_service.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Periodically realigns the in-memory seat counters with the database, picking up reservations and
+// cancellations made on other instances, capacity changes and seats freed without a waitlist promotion
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatReconciler {
+
+    private final SeatInventory seatInventory;
+    private final SeatReservationService reservationService;
+
+    @Scheduled(fixedDelayString = "${training.reservations.reconcile-interval:PT30S}",
+            initialDelayString = "${training.reservations.reconcile-interval:PT30S}")
+    public void reconcile() {
+        for (Long sessionId : seatInventory.trackedSessions()) {
+            try {
+                reservationService.reconcile(sessionId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to reconcile seats for session {}: {}", sessionId, e.getMessage());
+            }
+        }
+    }
+}
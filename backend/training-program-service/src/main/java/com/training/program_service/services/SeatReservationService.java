@@ -0,0 +1,167 @@
+package com.training.program_service.services;
+
+import com.training.program_service.dto.SeatAvailability;
+import com.training.program_service.models.SeatReservation;
+import com.training.program_service.models.TrainingSession;
+import com.training.program_service.pagination.CursorPage;
+import com.training.program_service.repositories.SeatReservationRepository;
+import com.training.program_service.repositories.TrainingSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class SeatReservationService {
+
+    private final SeatReservationRepository reservationRepository;
+    private final TrainingSessionRepository sessionRepository;
+    private final SeatInventory seatInventory;
+
+    // Idempotent per employee: an active reservation or waitlist entry is returned unchanged
+    @Transactional
+    public SeatReservation reserve(Long sessionId, Long employeeId) {
+        if (!sessionRepository.existsById(sessionId)) {
+            throw new RuntimeException("Training Session not found with id: " + sessionId);
+        }
+
+        SeatReservation reservation = reservationRepository.findBySessionIdAndEmployeeId(sessionId, employeeId)
+                .orElseGet(SeatReservation::new);
+        if (SeatReservation.RESERVED.equals(reservation.getStatus())
+                || SeatReservation.WAITLISTED.equals(reservation.getStatus())) {
+            return reservation;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        reservation.setSessionId(sessionId);
+        reservation.setEmployeeId(employeeId);
+        reservation.setStatus(acquireSeat(sessionId) ? SeatReservation.RESERVED : SeatReservation.WAITLISTED);
+        reservation.setRequestedAt(now);
+        reservation.setUpdatedAt(now);
+        return reservationRepository.save(reservation);
+    }
+
+    // A cancelled seat goes to the head of the waitlist in the same transaction
+    @Transactional
+    public SeatReservation cancel(Long reservationId) {
+        SeatReservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new RuntimeException("Seat Reservation not found with id: " + reservationId));
+        if (SeatReservation.CANCELLED.equals(reservation.getStatus())) {
+            return reservation;
+        }
+
+        boolean heldSeat = SeatReservation.RESERVED.equals(reservation.getStatus());
+        reservation.setStatus(SeatReservation.CANCELLED);
+        reservation.setUpdatedAt(LocalDateTime.now());
+        reservationRepository.save(reservation);
+
+        if (heldSeat) {
+            Long sessionId = reservation.getSessionId();
+            sessionRepository.releaseSeat(sessionId);
+            if (promoteWaitlisted(sessionId, 1) == 0) {
+                releaseAfterCompletion(sessionId, true);
+            }
+        }
+        return reservation;
+    }
+
+    @Transactional(readOnly = true)
+    public List<SeatReservation> getReservationsBySession(Long sessionId, String status, Long after, int limit) {
+        if (status == null) {
+            return reservationRepository.findBySessionIdAndIdGreaterThanOrderByIdAsc(
+                    sessionId, CursorPage.after(after), CursorPage.limit(limit));
+        }
+        return reservationRepository.findBySessionIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                sessionId, status.toUpperCase(), CursorPage.after(after), CursorPage.limit(limit));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<SeatAvailability> getAvailability(Long sessionId) {
+        return sessionRepository.findById(sessionId)
+                .map(session -> new SeatAvailability(sessionId, session.getMaxAttendees(), session.getReservedSeats(),
+                        reservationRepository.countBySessionIdAndStatus(sessionId, SeatReservation.WAITLISTED)));
+    }
+
+    // Recounts the session's seats from its reservations under the session row lock, fills free seats from
+    // the waitlist and resets the in-memory counter. Sessions that are gone or over are dropped from memory.
+    @Transactional
+    public void reconcile(Long sessionId) {
+        Optional<TrainingSession> locked = sessionRepository.lockById(sessionId);
+        if (locked.isEmpty() || isOver(locked.get())) {
+            seatInventory.forget(sessionId);
+            return;
+        }
+
+        TrainingSession session = locked.get();
+        int reserved = (int) reservationRepository.countBySessionIdAndStatus(sessionId, SeatReservation.RESERVED);
+        if (reserved != session.getReservedSeats()) {
+            sessionRepository.setReservedSeats(sessionId, reserved);
+        }
+
+        int free = session.getMaxAttendees() == null
+                ? CursorPage.MAX_LIMIT
+                : Math.min(session.getMaxAttendees() - reserved, CursorPage.MAX_LIMIT);
+        int promoted = promoteWaitlisted(sessionId, free);
+
+        int reservedSeats = reserved + promoted;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatInventory.reset(sessionId, session.getMaxAttendees(), reservedSeats);
+            }
+        });
+    }
+
+    private boolean acquireSeat(Long sessionId) {
+        if (!seatInventory.tryAcquire(sessionId)) {
+            return false;
+        }
+        if (sessionRepository.takeSeat(sessionId) == 0) {
+            seatInventory.markFull(sessionId);
+            return false;
+        }
+        releaseAfterCompletion(sessionId, false);
+        return true;
+    }
+
+    private int promoteWaitlisted(Long sessionId, int seats) {
+        if (seats <= 0) {
+            return 0;
+        }
+        int promoted = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (SeatReservation next : reservationRepository.findBySessionIdAndStatusOrderByRequestedAtAscIdAsc(
+                sessionId, SeatReservation.WAITLISTED, Limit.of(seats))) {
+            if (sessionRepository.takeSeat(sessionId) == 0) {
+                break;
+            }
+            next.setStatus(SeatReservation.RESERVED);
+            next.setUpdatedAt(now);
+            promoted++;
+        }
+        return promoted;
+    }
+
+    // Gives a counted seat back to the in-memory inventory once the transaction commits or rolls back
+    private void releaseAfterCompletion(Long sessionId, boolean onCommit) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if ((status == STATUS_COMMITTED) == onCommit) {
+                    seatInventory.release(sessionId);
+                }
+            }
+        });
+    }
+
+    private static boolean isOver(TrainingSession session) {
+        return session.getEndTime() != null && session.getEndTime().isBefore(LocalDateTime.now());
+    }
+}
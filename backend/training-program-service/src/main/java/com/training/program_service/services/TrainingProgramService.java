@@ -1,49 +1,124 @@
 package com.training.program_service.services;
 
+import com.training.program_service.clients.ProgramCacheInvalidator;
+import com.training.program_service.dto.ProgramSuggestion;
 import com.training.program_service.models.TrainingProgram;
+import com.training.program_service.pagination.CursorPage;
 import com.training.program_service.repositories.TrainingProgramRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TrainingProgramService {
     
+    private static final int MIN_INDEXED_TERM_LENGTH = 2;
+    public static final String DEFAULT_SUGGESTIONS = "10";
+    private static final int MAX_SUGGESTIONS = 20;
+    // Keeps ?ids= within a URL and the lookup to one IN query
+    public static final int MAX_BATCH_IDS = 500;
+    
     private final TrainingProgramRepository trainingProgramRepository;
+    private final ProgramCacheInvalidator programCacheInvalidator;
+    private final EntityManager entityManager;
+    
+    @Value("${training.search.full-text:true}")
+    private boolean fullTextSearch;
     
-    public List<TrainingProgram> getAllPrograms() {
-        return trainingProgramRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<TrainingProgram> getAllPrograms(Long after, int limit) {
+        return trainingProgramRepository.findByIdGreaterThanOrderByIdAsc(CursorPage.after(after), CursorPage.limit(limit));
     }
     
+    @Transactional(readOnly = true)
+    public void streamAllPrograms(Consumer<TrainingProgram> sink) {
+        try (Stream<TrainingProgram> programs = trainingProgramRepository.streamAll()) {
+            programs.forEach(program -> {
+                sink.accept(program);
+                entityManager.detach(program);
+            });
+        }
+    }
+    
+    @Transactional(readOnly = true)
     public Optional<TrainingProgram> getProgramById(Long id) {
         return trainingProgramRepository.findById(id);
     }
     
+    @Transactional(readOnly = true)
+    public List<TrainingProgram> getProgramsByIds(Collection<Long> ids) {
+        Set<Long> uniqueIds = new HashSet<>(ids);
+        if (uniqueIds.size() > MAX_BATCH_IDS) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Batch lookup exceeds " + MAX_BATCH_IDS + " ids");
+        }
+        return uniqueIds.isEmpty() ? List.of() : trainingProgramRepository.findByIdInOrderByIdAsc(uniqueIds);
+    }
+    
     public TrainingProgram createProgram(TrainingProgram program) {
         return trainingProgramRepository.save(program);
     }
     
     public TrainingProgram updateProgram(Long id, TrainingProgram updatedProgram) {
         updatedProgram.setId(id);
-        return trainingProgramRepository.save(updatedProgram);
+        TrainingProgram savedProgram = trainingProgramRepository.save(updatedProgram);
+        programCacheInvalidator.invalidate(id);
+        return savedProgram;
     }
     
     public void deleteProgram(Long id) {
         trainingProgramRepository.deleteById(id);
+        programCacheInvalidator.invalidate(id);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<TrainingProgram> getProgramsByCategory(String category, Long after, int limit) {
+        return trainingProgramRepository.findByCategoryAndIdGreaterThanOrderByIdAsc(
+                category, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<TrainingProgram> getProgramsByCategory(String category) {
-        return trainingProgramRepository.findByCategory(category);
+    @Transactional(readOnly = true)
+    public List<TrainingProgram> getProgramsByCreator(String createdBy, Long after, int limit) {
+        return trainingProgramRepository.findByCreatedByAndIdGreaterThanOrderByIdAsc(
+                createdBy, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<TrainingProgram> getProgramsByCreator(String createdBy) {
-        return trainingProgramRepository.findByCreatedBy(createdBy);
+    @Transactional(readOnly = true)
+    public List<TrainingProgram> searchProgramsByName(String name, Long after, int limit) {
+        if (!fullTextSearch || name.trim().length() < MIN_INDEXED_TERM_LENGTH) {
+            return trainingProgramRepository.findByNameContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(
+                    name, CursorPage.after(after), CursorPage.limit(limit));
+        }
+        return trainingProgramRepository.searchByName(phrase(name), CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<TrainingProgram> searchProgramsByName(String name) {
-        return trainingProgramRepository.findByNameContainingIgnoreCase(name);
+    @Transactional(readOnly = true)
+    public List<ProgramSuggestion> suggestPrograms(String prefix, int limit) {
+        if (prefix.isBlank()) {
+            return List.of();
+        }
+        return trainingProgramRepository.findByNameStartingWithOrderByNameAscIdAsc(
+                        prefix.trim(), Limit.of(Math.max(1, Math.min(limit, MAX_SUGGESTIONS))))
+                .stream()
+                .map(program -> new ProgramSuggestion(program.getId(), program.getName(), program.getCategory()))
+                .toList();
+    }
+
+    private static String phrase(String term) {
+        return "\"" + term.replace("\"", " ").trim() + "\"";
     }
 }
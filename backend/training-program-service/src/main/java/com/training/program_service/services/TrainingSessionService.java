@@ -2,31 +2,66 @@ package com.training.program_service.services;
 
 import com.training.program_service.models.TrainingProgram;
 import com.training.program_service.models.TrainingSession;
+import com.training.program_service.pagination.CursorPage;
 import com.training.program_service.repositories.TrainingProgramRepository;
 import com.training.program_service.repositories.TrainingSessionRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TrainingSessionService {
     
+    public static final int MAX_BATCH_IDS = 500;
+    
     private final TrainingSessionRepository sessionRepository;
     private final TrainingProgramRepository programRepository;
+    private final EntityManager entityManager;
+    private final SeatInventory seatInventory;
+    
+    @Transactional(readOnly = true)
+    public List<TrainingSession> getAllSessions(Long after, int limit) {
+        return sessionRepository.findByIdGreaterThanOrderByIdAsc(CursorPage.after(after), CursorPage.limit(limit));
+    }
     
-    public List<TrainingSession> getAllSessions() {
-        return sessionRepository.findAll();
+    @Transactional(readOnly = true)
+    public void streamAllSessions(Consumer<TrainingSession> sink) {
+        try (Stream<TrainingSession> sessions = sessionRepository.streamAll()) {
+            sessions.forEach(session -> {
+                sink.accept(session);
+                entityManager.detach(session);
+            });
+        }
     }
     
+    @Transactional(readOnly = true)
     public Optional<TrainingSession> getSessionById(Long id) {
         return sessionRepository.findById(id);
     }
     
+    @Transactional(readOnly = true)
+    public List<TrainingSession> getSessionsByIds(Collection<Long> ids) {
+        Set<Long> uniqueIds = new HashSet<>(ids);
+        if (uniqueIds.size() > MAX_BATCH_IDS) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Batch lookup exceeds " + MAX_BATCH_IDS + " ids");
+        }
+        return uniqueIds.isEmpty() ? List.of() : sessionRepository.findByIdInOrderByIdAsc(uniqueIds);
+    }
+    
     @Transactional
     public TrainingSession createSession(Long programId, TrainingSession session) {
         TrainingProgram program = programRepository.findById(programId)
@@ -43,26 +78,39 @@ public class TrainingSessionService {
         
         updatedSession.setId(id);
         updatedSession.setTrainingProgram(existingSession.getTrainingProgram());
-        return sessionRepository.save(updatedSession);
+        updatedSession.setReservedSeats(existingSession.getReservedSeats());
+        TrainingSession saved = sessionRepository.save(updatedSession);
+        // maxAttendees may have changed; the counter reloads on the next reservation
+        seatInventory.forget(id);
+        return saved;
     }
     
     public void deleteSession(Long id) {
         sessionRepository.deleteById(id);
+        seatInventory.forget(id);
     }
     
-    public List<TrainingSession> getSessionsByProgramId(Long programId) {
-        return sessionRepository.findByTrainingProgramId(programId);
+    @Transactional(readOnly = true)
+    public List<TrainingSession> getSessionsByProgramId(Long programId, Long after, int limit) {
+        return sessionRepository.findByTrainingProgramIdAndIdGreaterThanOrderByIdAsc(
+                programId, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<TrainingSession> getSessionsByTrainer(String trainer) {
-        return sessionRepository.findByTrainer(trainer);
+    @Transactional(readOnly = true)
+    public List<TrainingSession> getSessionsByTrainer(String trainer, Long after, int limit) {
+        return sessionRepository.findByTrainerAndIdGreaterThanOrderByIdAsc(
+                trainer, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<TrainingSession> getSessionsByDateRange(LocalDateTime start, LocalDateTime end) {
-        return sessionRepository.findByStartTimeBetween(start, end);
+    @Transactional(readOnly = true)
+    public List<TrainingSession> getSessionsByDateRange(LocalDateTime start, LocalDateTime end, Long after, int limit) {
+        return sessionRepository.findByStartTimeBetweenAndIdGreaterThanOrderByIdAsc(
+                start, end, CursorPage.after(after), CursorPage.limit(limit));
     }
     
-    public List<TrainingSession> getSessionsByLocation(String location) {
-        return sessionRepository.findByLocationIgnoreCase(location);
+    @Transactional(readOnly = true)
+    public List<TrainingSession> getSessionsByLocation(String location, Long after, int limit) {
+        return sessionRepository.findByLocationIgnoreCaseAndIdGreaterThanOrderByIdAsc(
+                location, CursorPage.after(after), CursorPage.limit(limit));
     }
 }
@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS training_program (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    category VARCHAR(255),
+    created_by VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS training_session (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    start_time DATETIME(6),
+    end_time DATETIME(6),
+    location VARCHAR(255),
+    trainer VARCHAR(255),
+    max_attendees INT,
+    training_program_id BIGINT,
+    CONSTRAINT fk_session_program FOREIGN KEY (training_program_id) REFERENCES training_program (id)
+);
@@ -0,0 +1,11 @@
+-- TrainingProgramRepository.findByCategory..., findByCreatedBy...
+CREATE INDEX idx_program_category ON training_program (category);
+CREATE INDEX idx_program_created_by ON training_program (created_by);
+
+-- TrainingSessionRepository.findByTrainingProgramId..., findByTrainer..., findByStartTimeBetween...
+CREATE INDEX idx_session_program ON training_session (training_program_id);
+CREATE INDEX idx_session_trainer ON training_session (trainer);
+CREATE INDEX idx_session_start_time ON training_session (start_time);
+
+-- TrainingSessionRepository.findByLocationIgnoreCase... compares upper(location)
+CREATE INDEX idx_session_location_upper ON training_session ((UPPER(location)));
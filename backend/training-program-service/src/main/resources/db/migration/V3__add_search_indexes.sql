@@ -0,0 +1,10 @@
+-- TrainingProgramRepository.searchByName: substring search through an ngram full-text index
+-- InnoDB leaves out every ngram token containing a default stopword, and the list includes "a" and "i", so with it
+-- on searches for "Java" or "Spring" find nothing. The setting is read when the index is built; the session goes
+-- back to the server's setting afterwards, as Flyway may run on a pooled connection.
+SET SESSION innodb_ft_enable_stopword = OFF;
+ALTER TABLE training_program ADD FULLTEXT INDEX ft_program_name (name) WITH PARSER ngram;
+SET SESSION innodb_ft_enable_stopword = DEFAULT;
+
+-- TrainingProgramRepository.findByNameStartingWith...: prefix autocomplete as a range scan
+CREATE INDEX idx_program_name ON training_program (name);
@@ -0,0 +1,15 @@
+ALTER TABLE training_session ADD COLUMN reserved_seats INT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS seat_reservation (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    session_id BIGINT NOT NULL,
+    employee_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    requested_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT fk_reservation_session FOREIGN KEY (session_id) REFERENCES training_session (id) ON DELETE CASCADE,
+    CONSTRAINT uk_reservation_session_employee UNIQUE (session_id, employee_id)
+);
+
+-- Waitlist head lookup, per-status counts and keyset listing per session
+CREATE INDEX idx_reservation_session_status ON seat_reservation (session_id, status, requested_at, id);
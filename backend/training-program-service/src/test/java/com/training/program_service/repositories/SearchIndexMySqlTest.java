@@ -0,0 +1,49 @@
+package com.training.program_service.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The V3 ngram index against a real MySQL server, which H2 cannot stand in for. Runs only when given an empty
+// schema to own: -Dtest.mysql.url=jdbc:mysql://host:3306/<schema> (plus test.mysql.username and
+// test.mysql.password); the schema is cleaned and migrated from scratch.
+@EnabledIfSystemProperty(named = "test.mysql.url", matches = ".+")
+class SearchIndexMySqlTest {
+
+    // TrainingProgramRepository.searchByName
+    private static final String SEARCH = "select name from training_program "
+            + "where match(name) against (? in boolean mode) order by id";
+
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getProperty("test.mysql.url"),
+                System.getProperty("test.mysql.username", "root"), System.getProperty("test.mysql.password", ""));
+        Flyway flyway = Flyway.configure().dataSource(dataSource).locations("classpath:db/migration")
+                .cleanDisabled(false).load();
+        flyway.clean();
+        flyway.migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO training_program (name) VALUES ('Java Fundamentals'), ('Spring Boot in Practice'), "
+                + "('Kotlin for Backend Teams'), ('Leadership Essentials')");
+    }
+
+    // "a" and "i" are default InnoDB stopwords: with them on, every ngram of "Java" and "ia" is left out of the index
+    @Test
+    void termsContainingStopwordLettersAreFound() {
+        assertThat(jdbc.queryForList(SEARCH, String.class, "\"Java\"")).containsExactly("Java Fundamentals");
+        assertThat(jdbc.queryForList(SEARCH, String.class, "\"Spring\"")).containsExactly("Spring Boot in Practice");
+        assertThat(jdbc.queryForList(SEARCH, String.class, "\"ia\"")).containsExactly("Leadership Essentials");
+    }
+
+    @Test
+    void termsThatAppearNowhereFindNothing() {
+        assertThat(jdbc.queryForList(SEARCH, String.class, "\"Python\"")).isEmpty();
+    }
+}
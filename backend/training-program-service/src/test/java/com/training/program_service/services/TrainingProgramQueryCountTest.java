@@ -0,0 +1,113 @@
+package com.training.program_service.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.training.program_service.models.TrainingProgram;
+import com.training.program_service.pagination.CursorPage;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Statements issued to read and serialize 10,000 programs, each with two sessions. Serialization touches every
+// sessions collection, as Jackson does in the controllers while the session is still open.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:program_query_count;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("loadtest")
+class TrainingProgramQueryCountTest {
+
+    private static final int PROGRAMS = 10_000;
+
+    @Autowired
+    private TrainingProgramService trainingProgramService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM training_program", Long.class);
+        if (rows != null && rows == PROGRAMS) {
+            return;
+        }
+        List<Object[]> programs = new ArrayList<>(PROGRAMS);
+        List<Object[]> sessions = new ArrayList<>(PROGRAMS * 2);
+        for (long id = 1; id <= PROGRAMS; id++) {
+            programs.add(new Object[] {id, "Program " + id, "Category" + (id % 20)});
+            sessions.add(new Object[] {id * 2 - 1, "Session A", id});
+            sessions.add(new Object[] {id * 2, "Session B", id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO training_program (id, name, category) VALUES (?, ?, ?)", programs);
+        jdbcTemplate.batchUpdate("INSERT INTO training_session (id, title, training_program_id, reserved_seats) "
+                + "VALUES (?, ?, ?, 0)", sessions);
+    }
+
+    @Test
+    void eachListPageIsOneQueryForProgramsAndOneForTheirSessions() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Long after = null;
+        for (int page = 0; page < PROGRAMS / CursorPage.MAX_LIMIT; page++) {
+            Long cursor = after;
+            statistics.clear();
+            List<TrainingProgram> programs = readOnly.execute(status -> {
+                List<TrainingProgram> loaded = trainingProgramService.getAllPrograms(cursor, CursorPage.MAX_LIMIT);
+                serialize(loaded);
+                return loaded;
+            });
+
+            assertThat(programs).hasSize(CursorPage.MAX_LIMIT);
+            assertThat(programs).allSatisfy(program -> assertThat(program.getSessions()).hasSize(2));
+            assertThat(statistics.getPrepareStatementCount()).as("statements for page %d", page).isEqualTo(2);
+            after = programs.get(programs.size() - 1).getId();
+        }
+    }
+
+    @Test
+    void streamingExportIsOneQuery() {
+        List<Integer> sessionCounts = new ArrayList<>(PROGRAMS);
+        statistics.clear();
+
+        trainingProgramService.streamAllPrograms(program -> {
+            serialize(program);
+            sessionCounts.add(program.getSessions().size());
+        });
+
+        assertThat(sessionCounts).hasSize(PROGRAMS).containsOnly(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void serialize(Object value) {
+        try {
+            objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -8,6 +8,9 @@ const api = axios.create({
   }
 });
 
+// Largest page the services serve
+const PAGE_SIZE = 1000;
+
 // Request interceptor for adding auth token or handling request-specific logic
 api.interceptors.request.use(
   (config) => {
@@ -39,4 +42,18 @@ api.interceptors.response.use(
   }
 );
 
+// List endpoints return at most `limit` rows and put the cursor for the next page in X-Next-Cursor.
+// Follows the cursor and resolves to the first response with every row in `data`.
+export const getAllPages = async (url, params = {}) => {
+  const first = await api.get(url, { params: { ...params, limit: PAGE_SIZE } });
+  const rows = [...first.data];
+  let after = first.headers['x-next-cursor'];
+  while (after) {
+    const page = await api.get(url, { params: { ...params, limit: PAGE_SIZE, after } });
+    rows.push(...page.data);
+    after = page.headers['x-next-cursor'];
+  }
+  return { ...first, data: rows };
+};
+
 export default api;
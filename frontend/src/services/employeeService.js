@@ -1,11 +1,11 @@
-import api from './api';
+import api, { getAllPages } from './api';
 
 const EMPLOYEE_API_URL = '/api/employees';
 
 class EmployeeService {
   // Employees
   getAllEmployees() {
-    return api.get(`${EMPLOYEE_API_URL}`);
+    return getAllPages(`${EMPLOYEE_API_URL}`);
   }
 
   getEmployeeById(id) {
@@ -26,7 +26,7 @@ class EmployeeService {
 
   // Enrollments
   getEnrollmentsByEmployee(employeeId) {
-    return api.get(`${EMPLOYEE_API_URL}/enrollments/employee/${employeeId}`);
+    return getAllPages(`${EMPLOYEE_API_URL}/enrollments/employee/${employeeId}`);
   }
 
   enrollEmployeeToProgram(employeeId, programId) {
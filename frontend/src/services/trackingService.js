@@ -1,11 +1,11 @@
-import api from './api';
+import api, { getAllPages } from './api';
 
 const TRACKING_API_URL = '/api/tracking';
 
 class TrackingService {
   // Attendance
   getAllAttendance() {
-    return api.get(`${TRACKING_API_URL}/attendance`);
+    return getAllPages(`${TRACKING_API_URL}/attendance`);
   }
 
   recordAttendance(attendanceData) {
@@ -14,7 +14,7 @@ class TrackingService {
 
   // Completions
   getAllCompletions() {
-    return api.get(`${TRACKING_API_URL}/completions`);
+    return getAllPages(`${TRACKING_API_URL}/completions`);
   }
 
   recordCompletion(completionData) {
@@ -23,7 +23,7 @@ class TrackingService {
 
   // Feedback
   getAllFeedback() {
-    return api.get(`${TRACKING_API_URL}/feedback`);
+    return getAllPages(`${TRACKING_API_URL}/feedback`);
   }
 
   recordFeedback(feedbackData) {
@@ -1,11 +1,11 @@
-import api from './api';
+import api, { getAllPages } from './api';
 
 const TRAINING_API_URL = '/api/training';
 
 class TrainingService {
   // Training Programs
   getAllPrograms() {
-    return api.get(`${TRAINING_API_URL}/programs`);
+    return getAllPages(`${TRAINING_API_URL}/programs`);
   }
 
   getProgramById(id) {
@@ -26,7 +26,7 @@ class TrainingService {
 
   // Training Sessions
   getAllSessions() {
-    return api.get(`${TRAINING_API_URL}/sessions`);
+    return getAllPages(`${TRAINING_API_URL}/sessions`);
   }
 
   getSessionById(id) {